@@ -0,0 +1,54 @@
+-- Query plans and latencies of the /tasks/filters access patterns before and after the V2 indexes.
+--
+-- Usage (MySQL 8.0.18+, on a scratch schema migrated up to V1 only):
+--   mysql -u root -p tasks_bench < benchmarks/sql/task-filter-indexes.sql > target/task-filter-indexes.txt
+--
+-- EXPLAIN ANALYZE executes each statement and reports the actual time per plan node, so the "before" and
+-- "after" sections of the output can be compared directly.
+
+SET SESSION cte_max_recursion_depth = 5000000;
+
+-- Seed 3,000,000 tasks spread over 5,000 employees and ~3 years of dates.
+INSERT INTO task (title, description, start_date, end_date, priority, status, employee_id)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 3000000
+)
+SELECT CONCAT('Task ', n),
+       CONCAT('Seeded task number ', n),
+       DATE_ADD('2022-01-01', INTERVAL (n % 1000) DAY),
+       DATE_ADD('2022-01-01', INTERVAL (n % 1000) + (n % 30) DAY),
+       ELT(1 + (n % 3), 'LOW', 'MEDIUM', 'HIGH'),
+       ELT(1 + (n % 10 DIV 4), 'IN_PROGRESS', 'COMPLETED', 'LATE'),
+       1 + (n % 5000)
+FROM seq;
+
+ANALYZE TABLE task;
+
+SELECT 'before indexes' AS phase;
+
+EXPLAIN ANALYZE SELECT * FROM task WHERE employee_id = 42 LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE employee_id = 42 AND status = 'IN_PROGRESS' LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE status = 'IN_PROGRESS' AND end_date BETWEEN '2023-01-01' AND '2023-01-31' LIMIT 20;
+EXPLAIN ANALYZE SELECT COUNT(*) FROM task WHERE employee_id = 42 AND status = 'IN_PROGRESS';
+EXPLAIN ANALYZE SELECT * FROM task WHERE start_date BETWEEN '2023-06-01' AND '2023-06-07' LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE end_date > '2023-01-01' OR (end_date = '2023-01-01' AND id > 1500000)
+    ORDER BY end_date, id LIMIT 21;
+
+CREATE INDEX idx_task_employee_status_end_date ON task (employee_id, status, end_date);
+CREATE INDEX idx_task_status_end_date ON task (status, end_date);
+CREATE INDEX idx_task_end_date ON task (end_date);
+CREATE INDEX idx_task_start_date ON task (start_date);
+
+ANALYZE TABLE task;
+
+SELECT 'after indexes' AS phase;
+
+EXPLAIN ANALYZE SELECT * FROM task WHERE employee_id = 42 LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE employee_id = 42 AND status = 'IN_PROGRESS' LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE status = 'IN_PROGRESS' AND end_date BETWEEN '2023-01-01' AND '2023-01-31' LIMIT 20;
+EXPLAIN ANALYZE SELECT COUNT(*) FROM task WHERE employee_id = 42 AND status = 'IN_PROGRESS';
+EXPLAIN ANALYZE SELECT * FROM task WHERE start_date BETWEEN '2023-06-01' AND '2023-06-07' LIMIT 20;
+EXPLAIN ANALYZE SELECT * FROM task WHERE end_date > '2023-01-01' OR (end_date = '2023-01-01' AND id > 1500000)
+    ORDER BY end_date, id LIMIT 21;
@@ -0,0 +1,62 @@
+package com.github.silviacristinaa.tasks.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
+import com.github.silviacristinaa.tasks.utils.TaskDates;
+
+/**
+ * Cost of {@link TaskDates#validate(LocalDate, LocalDate)} per outcome. The rejected cases include building the
+ * {@link BadRequestException} and its stack trace, which dominates them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskDatesBenchmark {
+
+	private final LocalDate startDate = LocalDate.of(2023, 1, 1);
+	private final LocalDate endDate = LocalDate.of(2023, 1, 31);
+
+	@Benchmark
+	public void noDates() throws BadRequestException {
+		TaskDates.validate(null, null);
+	}
+
+	@Benchmark
+	public void validRange() throws BadRequestException {
+		TaskDates.validate(startDate, endDate);
+	}
+
+	@Benchmark
+	public BadRequestException missingEndDate() {
+		return rejected(startDate, null);
+	}
+
+	@Benchmark
+	public BadRequestException endBeforeStart() {
+		return rejected(endDate, startDate);
+	}
+
+	private static BadRequestException rejected(LocalDate startDate, LocalDate endDate) {
+		try {
+			TaskDates.validate(startDate, endDate);
+			throw new IllegalStateException("dates should have been rejected");
+		} catch (BadRequestException ex) {
+			return ex;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.github.silviacristinaa.tasks.benchmarks;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.silviacristinaa.tasks.TasksApplication;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
+import com.github.silviacristinaa.tasks.mappers.TaskMapper;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.repositories.TaskSpecifications;
+import com.github.silviacristinaa.tasks.services.TaskService;
+
+/**
+ * Latency of one page of tasks through the real service, repository and Hibernate stack, against an embedded H2
+ * (application-h2.yml) seeded with {@code rows} tasks. {@code inMemorySubListPaging} is how GET /tasks used to
+ * page: load every task, map it, then take a subList; {@code repositoryPaging} is the current LIMIT/OFFSET plus
+ * count query. The employee/status filter takes the query-cache path of findByFilters, so
+ * {@code findByFiltersByEmployeeAndStatusCached} mostly measures query-cache hits;
+ * {@code findByFiltersByEmployeeAndStatusUncached} runs the same specification without the cache. The date filter
+ * never uses the cache.
+ * <p>
+ * Seeding 10^6 rows takes a while and the in-memory variant needs a large heap, hence the fork's -Xmx.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskQueryBenchmark {
+
+	private static final String H2_PROFILE = "h2";
+	private static final Pageable PAGE = PageRequest.of(10, 20);
+	private static final LocalDate FROM = TaskSeeder.FIRST_START_DATE.plusDays(100);
+	private static final LocalDate TO = FROM.plusDays(7);
+	private static final long EMPLOYEE_ID = TaskSeeder.EMPLOYEES / 2;
+
+	@Param({"100000", "1000000"})
+	public int rows;
+
+	private ConfigurableApplicationContext context;
+	private TaskService taskService;
+	private TaskRepository taskRepository;
+	private TaskMapper taskMapper;
+	private TransactionTemplate readOnly;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(TasksApplication.class)
+				.profiles(H2_PROFILE)
+				.web(WebApplicationType.NONE)
+				.properties("logging.level.root=WARN")
+				.run();
+		TaskSeeder.seed(context.getBean(JdbcTemplate.class), rows);
+		taskService = context.getBean(TaskService.class);
+		taskRepository = context.getBean(TaskRepository.class);
+		taskMapper = context.getBean(TaskMapper.class);
+		readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnly.setReadOnly(true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TaskResponseDto> inMemorySubListPaging() {
+		List<TaskResponseDto> tasks = taskRepository.findAll().stream().map(taskMapper::toResponseDto).toList();
+		int from = (int) Math.min(PAGE.getOffset(), tasks.size());
+		return tasks.subList(from, Math.min(from + PAGE.getPageSize(), tasks.size()));
+	}
+
+	@Benchmark
+	public Page<TaskResponseDto> repositoryPaging() {
+		return taskService.findAll(PAGE);
+	}
+
+	@Benchmark
+	public Page<TaskResponseDto> findByFiltersByEndDate() throws BadRequestException {
+		return taskService.findByFilters(null, null, null, FROM, TO, null, null, null, PAGE);
+	}
+
+	@Benchmark
+	public Page<TaskResponseDto> findByFiltersByEmployeeAndStatusCached() throws BadRequestException {
+		return taskService.findByFilters(null, null, null, null, null, null, StatusEnum.IN_PROGRESS, EMPLOYEE_ID,
+				PAGE);
+	}
+
+	@Benchmark
+	public Page<TaskResponseDto> findByFiltersByEmployeeAndStatusUncached() {
+		return readOnly.execute(status -> taskRepository.findResponsePage(TaskSpecifications.byFilters(null, null,
+				null, null, null, null, StatusEnum.IN_PROGRESS, EMPLOYEE_ID), PAGE));
+	}
+}
@@ -0,0 +1,53 @@
+package com.github.silviacristinaa.tasks.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+/**
+ * Inserts a reproducible set of tasks with plain JDBC batches, spread over {@link #EMPLOYEES} employees and
+ * start dates in the {@link #DAYS} days after {@link #FIRST_START_DATE}. Moves the id sequence past the seeded
+ * ids so the application can still create tasks.
+ */
+final class TaskSeeder {
+
+	static final int EMPLOYEES = 1000;
+	static final LocalDate FIRST_START_DATE = LocalDate.of(2023, 1, 1);
+	static final int DAYS = 730;
+
+	private static final String INSERT = "INSERT INTO task (id, title, description, start_date, end_date, priority,"
+			+ " status, employee_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+	private static final int BATCH_SIZE = 10_000;
+	private static final long SEED = 42;
+
+	private TaskSeeder() {
+	}
+
+	static void seed(JdbcTemplate jdbcTemplate, int rows) {
+		Random random = new Random(SEED);
+		PriorityEnum[] priorities = PriorityEnum.values();
+		StatusEnum[] statuses = StatusEnum.values();
+
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (long id = 1; id <= rows; id++) {
+			LocalDate startDate = FIRST_START_DATE.plusDays(random.nextInt(DAYS));
+			batch.add(new Object[] { id, "Task " + id, "Seeded task " + id, startDate,
+					startDate.plusDays(1 + random.nextInt(30)), priorities[random.nextInt(priorities.length)].name(),
+					statuses[random.nextInt(statuses.length)].name(), 1L + random.nextInt(EMPLOYEES) });
+			if (batch.size() == BATCH_SIZE) {
+				jdbcTemplate.batchUpdate(INSERT, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT, batch);
+		}
+		jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH " + (rows + 1));
+	}
+}
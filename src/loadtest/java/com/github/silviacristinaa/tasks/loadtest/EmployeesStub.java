@@ -0,0 +1,107 @@
+package com.github.silviacristinaa.tasks.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stand-in for the employees api on the JDK's HTTP server. {@code GET /api/v1/employees/{id}} answers an enabled
+ * employee after {@code latency}; a share of {@code errorRate} requests answers 503 instead. Ids above
+ * {@code employees} are 404s.
+ * <p>
+ * Also runs on its own, on the port the default {@code tasks.employees.url} points to:
+ * {@code mvn -Ploadtest test-compile exec:java -Dexec.mainClass=com.github.silviacristinaa.tasks.loadtest.EmployeesStub}
+ */
+public final class EmployeesStub {
+
+	private static final String CONTEXT_PATH = "/api/v1";
+	private static final String EMPLOYEES_PATH = CONTEXT_PATH + "/employees/";
+	private static final String EMPLOYEE_JSON = "{\"id\":%d,\"name\":\"Employee %d\",\"cpf\":\"00000000000\","
+			+ "\"department\":\"IT\",\"enabled\":true}";
+	private static final int DEFAULT_PORT = 8080;
+	private static final int THREADS = 200;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final long latencyMillis;
+	private final double errorRate;
+	private final long employees;
+
+	private EmployeesStub(HttpServer server, Duration latency, double errorRate, long employees) {
+		this.server = server;
+		this.executor = Executors.newFixedThreadPool(THREADS);
+		this.latencyMillis = latency.toMillis();
+		this.errorRate = errorRate;
+		this.employees = employees;
+	}
+
+	public static EmployeesStub start(int port, Duration latency, double errorRate, long employees) throws IOException {
+		EmployeesStub stub = new EmployeesStub(HttpServer.create(new InetSocketAddress(port), 0), latency, errorRate,
+				employees);
+		stub.server.createContext(EMPLOYEES_PATH, stub::handle);
+		stub.server.setExecutor(stub.executor);
+		stub.server.start();
+		return stub;
+	}
+
+	/**
+	 * @return the value for {@code tasks.employees.url}
+	 */
+	public String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort() + CONTEXT_PATH;
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (latencyMillis > 0) {
+				Thread.sleep(latencyMillis);
+			}
+			if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+				exchange.sendResponseHeaders(503, -1);
+				return;
+			}
+			long id;
+			try {
+				id = Long.parseLong(exchange.getRequestURI().getPath().substring(EMPLOYEES_PATH.length()));
+			} catch (NumberFormatException ex) {
+				exchange.sendResponseHeaders(400, -1);
+				return;
+			}
+			if (id < 1 || id > employees) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			byte[] body = String.format(EMPLOYEE_JSON, id, id).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} finally {
+			exchange.close();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		EmployeesStub stub = start(Integer.getInteger("loadtest.stub.port", DEFAULT_PORT),
+				Duration.ofMillis(Long.getLong(LoadTest.STUB_LATENCY_MS, 20)),
+				Double.parseDouble(System.getProperty(LoadTest.STUB_ERROR_RATE, "0")),
+				Long.getLong(LoadTest.EMPLOYEES, 1000));
+		System.out.println("Employees stub listening on " + stub.baseUrl());
+	}
+}
@@ -0,0 +1,28 @@
+package com.github.silviacristinaa.tasks.loadtest;
+
+/**
+ * The requests of the mix, with the status a successful call answers.
+ */
+enum Endpoint {
+
+	CREATE("POST /tasks", 201),
+	FILTERS("GET /tasks/filters", 200),
+	UPDATE_STATUS("PATCH /tasks/{id}", 204),
+	FIND_BY_ID("GET /tasks/{id}", 200);
+
+	private final String label;
+	private final int expectedStatus;
+
+	Endpoint(String label, int expectedStatus) {
+		this.label = label;
+		this.expectedStatus = expectedStatus;
+	}
+
+	String label() {
+		return label;
+	}
+
+	int expectedStatus() {
+		return expectedStatus;
+	}
+}
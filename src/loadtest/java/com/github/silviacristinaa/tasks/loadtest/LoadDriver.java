@@ -0,0 +1,175 @@
+package com.github.silviacristinaa.tasks.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-model driver: {@code users} threads each send the next request of the weighted mix as soon as the
+ * previous one answers, so throughput is what the application sustains at that concurrency. Reads and updates
+ * pick a random id among the tasks known to exist.
+ */
+final class LoadDriver {
+
+	private static final String JSON = "application/json";
+	private static final String CONTENT_TYPE = "Content-Type";
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final int SEED_BATCH_SIZE = 1000;
+	private static final String[] PRIORITIES = { "LOW", "MEDIUM", "HIGH" };
+	private static final String[] STATUSES = { "IN_PROGRESS", "COMPLETED", "LATE" };
+	private static final LocalDate FIRST_START_DATE = LocalDate.of(2023, 1, 1);
+	private static final int DAYS = 730;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String tasksUrl;
+	private final int users;
+	private final long employees;
+	private final Endpoint[] mix;
+	private final AtomicLong maxTaskId = new AtomicLong();
+
+	/**
+	 * @param weights relative share of each endpoint in the mix
+	 */
+	LoadDriver(String tasksUrl, int users, long employees, Map<Endpoint, Integer> weights) {
+		this.tasksUrl = tasksUrl;
+		this.users = users;
+		this.employees = employees;
+		List<Endpoint> entries = new ArrayList<>();
+		weights.forEach((endpoint, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				entries.add(endpoint);
+			}
+		});
+		if (entries.isEmpty()) {
+			throw new IllegalArgumentException("the request mix must have a positive weight");
+		}
+		this.mix = entries.toArray(Endpoint[]::new);
+	}
+
+	/**
+	 * Creates {@code tasks} tasks through POST /tasks/batch. The database is empty, so their ids are 1..tasks.
+	 */
+	void seed(int tasks) throws IOException, InterruptedException {
+		int created = 0;
+		while (created < tasks) {
+			int size = Math.min(SEED_BATCH_SIZE, tasks - created);
+			StringJoiner batch = new StringJoiner(",", "[", "]");
+			for (int i = 0; i < size; i++) {
+				batch.add(taskJson(ThreadLocalRandom.current()));
+			}
+			HttpResponse<String> response = httpClient.send(request(URI.create(tasksUrl + "/batch"))
+					.POST(BodyPublishers.ofString(batch.toString())).build(), BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("seeding failed with " + response.statusCode() + ": " + response.body());
+			}
+			JsonNode body = objectMapper.readTree(response.body());
+			created += body.get("created").asInt() + body.get("failed").asInt();
+			maxTaskId.addAndGet(body.get("created").asInt());
+		}
+	}
+
+	LoadReport run(Duration duration) throws InterruptedException {
+		LoadReport report = new LoadReport();
+		ExecutorService executor = Executors.newFixedThreadPool(users);
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+		for (int i = 0; i < users; i++) {
+			executor.execute(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+					Endpoint endpoint = mix[random.nextInt(mix.length)];
+					long sent = System.nanoTime();
+					boolean success;
+					try {
+						success = send(endpoint, random);
+					} catch (IOException ex) {
+						success = false;
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+					report.record(endpoint, System.nanoTime() - sent, success);
+				}
+			});
+		}
+		executor.shutdown();
+		if (!executor.awaitTermination(duration.plus(REQUEST_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS)) {
+			executor.shutdownNow();
+		}
+		report.finish(Duration.ofNanos(System.nanoTime() - start));
+		return report;
+	}
+
+	private boolean send(Endpoint endpoint, ThreadLocalRandom random) throws IOException, InterruptedException {
+		HttpRequest request = switch (endpoint) {
+			case CREATE -> request(URI.create(tasksUrl)).POST(BodyPublishers.ofString(taskJson(random))).build();
+			case FILTERS -> request(URI.create(tasksUrl + "/filters?" + filterQuery(random))).GET().build();
+			case UPDATE_STATUS -> request(URI.create(tasksUrl + "/" + randomTaskId(random)))
+					.method("PATCH", BodyPublishers.ofString("{\"status\":\"" + pick(STATUSES, random) + "\"}"))
+					.build();
+			case FIND_BY_ID -> request(URI.create(tasksUrl + "/" + randomTaskId(random))).GET().build();
+		};
+		HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+		if (endpoint == Endpoint.CREATE && response.statusCode() == endpoint.expectedStatus()) {
+			response.headers().firstValue("Location").ifPresent(location ->
+					maxTaskId.accumulateAndGet(Long.parseLong(location.substring(location.lastIndexOf('/') + 1)),
+							Math::max));
+		}
+		return response.statusCode() == endpoint.expectedStatus();
+	}
+
+	/*
+	 * Dashboards filter by employee and status; reports by a week of end dates.
+	 */
+	private String filterQuery(ThreadLocalRandom random) {
+		if (random.nextBoolean()) {
+			return "employeeId=" + randomEmployeeId(random) + "&status=" + pick(STATUSES, random) + "&page=0&size=20";
+		}
+		LocalDate from = FIRST_START_DATE.plusDays(random.nextInt(DAYS));
+		return "initialDateEndDate=" + from + "&finalDateEndDate=" + from.plusDays(7) + "&page="
+				+ random.nextInt(5) + "&size=20";
+	}
+
+	private String taskJson(ThreadLocalRandom random) {
+		LocalDate startDate = FIRST_START_DATE.plusDays(random.nextInt(DAYS));
+		return "{\"title\":\"Load test\",\"description\":\"Created by the load test\",\"startDate\":\"" + startDate
+				+ "\",\"endDate\":\"" + startDate.plusDays(1 + random.nextInt(30)) + "\",\"priority\":\""
+				+ pick(PRIORITIES, random) + "\",\"status\":\"IN_PROGRESS\",\"employeeId\":"
+				+ randomEmployeeId(random) + "}";
+	}
+
+	private long randomTaskId(ThreadLocalRandom random) {
+		return 1 + random.nextLong(Math.max(maxTaskId.get(), 1));
+	}
+
+	private long randomEmployeeId(ThreadLocalRandom random) {
+		return 1 + random.nextLong(employees);
+	}
+
+	private static String pick(String[] values, ThreadLocalRandom random) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static HttpRequest.Builder request(URI uri) {
+		return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).header(CONTENT_TYPE, JSON);
+	}
+}
@@ -0,0 +1,104 @@
+package com.github.silviacristinaa.tasks.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Latency histograms (microseconds, 3 significant digits) and error counts per endpoint for one run. Latency is
+ * recorded for failed calls too; a call fails when it answers an unexpected status or does not answer at all.
+ */
+final class LoadReport {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+	private static final int SIGNIFICANT_DIGITS = 3;
+	private static final String ROW_FORMAT = "%-20s %10s %8s %10s %9s %9s %9s %9s%n";
+
+	private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+	private Duration elapsed = Duration.ZERO;
+
+	LoadReport() {
+		for (Endpoint endpoint : Endpoint.values()) {
+			latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+			errors.put(endpoint, new LongAdder());
+		}
+	}
+
+	void record(Endpoint endpoint, long nanos, boolean success) {
+		latencies.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+		if (!success) {
+			errors.get(endpoint).increment();
+		}
+	}
+
+	void finish(Duration elapsed) {
+		this.elapsed = elapsed;
+	}
+
+	void print(PrintStream out) {
+		out.printf(ROW_FORMAT, "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+		for (Map<String, Object> row : rows()) {
+			out.printf(ROW_FORMAT, row.get("endpoint"), row.get("requests"), row.get("errors"),
+					String.format("%.1f", row.get("throughput")), millis(row.get("p50Micros")),
+					millis(row.get("p95Micros")), millis(row.get("p99Micros")), millis(row.get("maxMicros")));
+		}
+	}
+
+	void writeJson(Path file) throws IOException {
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), toMap());
+	}
+
+	/**
+	 * Writes the reports of an A/B comparison as one JSON object keyed by variant.
+	 */
+	static void writeJson(Path file, Map<String, LoadReport> reports) throws IOException {
+		Map<String, Object> result = new LinkedHashMap<>();
+		reports.forEach((variant, report) -> result.put(variant, report.toMap()));
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+	}
+
+	private Map<String, Object> toMap() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("durationSeconds", elapsed.toMillis() / 1000.0);
+		result.put("endpoints", rows());
+		return result;
+	}
+
+	private List<Map<String, Object>> rows() {
+		double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Endpoint endpoint : Endpoint.values()) {
+			Histogram histogram = latencies.get(endpoint);
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("endpoint", endpoint.label());
+			row.put("requests", histogram.getTotalCount());
+			row.put("errors", errors.get(endpoint).sum());
+			row.put("throughput", histogram.getTotalCount() / seconds);
+			row.put("p50Micros", histogram.getValueAtPercentile(50));
+			row.put("p95Micros", histogram.getValueAtPercentile(95));
+			row.put("p99Micros", histogram.getValueAtPercentile(99));
+			row.put("maxMicros", histogram.getMaxValue());
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private static String millis(Object micros) {
+		return String.format("%.2f", ((Long) micros) / 1000.0);
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.silviacristinaa.tasks.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.context.support.StandardServletEnvironment;
+
+import com.github.silviacristinaa.tasks.TasksApplication;
+
+/**
+ * Repeatable load test on one box: starts {@link EmployeesStub} and the application on the {@code h2} profile in
+ * this JVM, seeds tasks through the batch endpoint, warms up, then drives the request mix for the measured
+ * duration. The report goes to stdout and, as JSON, to {@code loadtest.result}.
+ * <p>
+ * {@code mvn -Ploadtest test-compile exec:java -Dloadtest.users=100 -Dloadtest.stub.latency-ms=50}
+ * <p>
+ * Application properties can be overridden as arguments, e.g.
+ * {@code -Dexec.args="--spring.datasource.hikari.maximum-pool-size=20"}.
+ * <p>
+ * For an A/B comparison, {@code -Dloadtest.compare=<property>} repeats the whole run (fresh database, seed,
+ * warm-up, measurement) once per value of {@code loadtest.compare.values} (default {@code false,true}) and reports
+ * every run, e.g. {@code -Dloadtest.compare=tasks.second-level-cache.enabled}, or
+ * {@code -Dloadtest.compare=spring.profiles.active -Dloadtest.compare.values=h2,virtual-threads} with the
+ * {@code virtual-threads} Maven profile.
+ */
+public final class LoadTest {
+
+	public static final String USERS = "loadtest.users";
+	public static final String WARMUP = "loadtest.warmup";
+	public static final String DURATION = "loadtest.duration";
+	public static final String SEED_TASKS = "loadtest.seed-tasks";
+	public static final String EMPLOYEES = "loadtest.employees";
+	public static final String STUB_LATENCY_MS = "loadtest.stub.latency-ms";
+	public static final String STUB_ERROR_RATE = "loadtest.stub.error-rate";
+	public static final String RESULT = "loadtest.result";
+	public static final String WEIGHT_PREFIX = "loadtest.weight.";
+	public static final String COMPARE = "loadtest.compare";
+	public static final String COMPARE_VALUES = "loadtest.compare.values";
+
+	private static final String PROPERTY_SOURCE = "loadtest";
+	private static final String TASKS_PATH = "/api/v1/tasks";
+	private static final String DATASOURCE_URL = "jdbc:h2:mem:loadtest-%d;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		long employees = Long.getLong(EMPLOYEES, 1000);
+		Path result = Path.of(System.getProperty(RESULT, "target/loadtest-result.json"));
+		String compared = System.getProperty(COMPARE);
+
+		EmployeesStub stub = EmployeesStub.start(0, Duration.ofMillis(Long.getLong(STUB_LATENCY_MS, 20)),
+				Double.parseDouble(System.getProperty(STUB_ERROR_RATE, "0")), employees);
+		try {
+			if (result.getParent() != null) {
+				Files.createDirectories(result.getParent());
+			}
+			if (compared == null) {
+				LoadReport report = run(args, stub, employees, 0, Map.of());
+				report.print(System.out);
+				report.writeJson(result);
+			} else {
+				Map<String, LoadReport> reports = new LinkedHashMap<>();
+				for (String value : System.getProperty(COMPARE_VALUES, "false,true").split(",")) {
+					String variant = compared + "=" + value.trim();
+					System.out.printf("Running with %s%n", variant);
+					reports.put(variant, run(args, stub, employees, reports.size(), Map.of(compared, value.trim())));
+				}
+				reports.forEach((variant, report) -> {
+					System.out.printf("%n%s%n", variant);
+					report.print(System.out);
+				});
+				LoadReport.writeJson(result, reports);
+			}
+			System.out.println("Result written to " + result.toAbsolutePath());
+		} finally {
+			stub.stop();
+		}
+	}
+
+	/*
+	 * The harness properties go into a property source ahead of the application's config files (but behind the
+	 * command line), so they override application.yml and still take part in profile activation. Each run gets
+	 * its own in-memory database, so a comparison does not measure the second run against the first run's rows.
+	 */
+	private static LoadReport run(String[] args, EmployeesStub stub, long employees, int runIndex,
+			Map<String, Object> overrides) throws Exception {
+		int users = Integer.getInteger(USERS, 50);
+		Duration warmup = Duration.parse(System.getProperty(WARMUP, "PT15S"));
+		Duration duration = Duration.parse(System.getProperty(DURATION, "PT60S"));
+		int seedTasks = Integer.getInteger(SEED_TASKS, 10000);
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("server.port", "0");
+		properties.put("tasks.employees.url", stub.baseUrl());
+		properties.put("logging.level.root", "WARN");
+		properties.put("spring.datasource.url", String.format(DATASOURCE_URL, runIndex));
+		properties.putAll(overrides);
+		StandardServletEnvironment environment = new StandardServletEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE, properties));
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TasksApplication.class)
+				.environment(environment)
+				.profiles("h2")
+				.run(args)) {
+			String tasksUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+					+ TASKS_PATH;
+
+			LoadDriver driver = new LoadDriver(tasksUrl, users, employees, weights());
+			System.out.printf("Seeding %d tasks%n", seedTasks);
+			driver.seed(seedTasks);
+			System.out.printf("Warming up for %s with %d users%n", warmup, users);
+			driver.run(warmup);
+			System.out.printf("Measuring for %s with %d users%n", duration, users);
+			return driver.run(duration);
+		}
+	}
+
+	/*
+	 * Defaults to a read-heavy mix; each share can be changed with -Dloadtest.weight.<endpoint>, e.g.
+	 * -Dloadtest.weight.create=0 for a read-only run.
+	 */
+	private static Map<Endpoint, Integer> weights() {
+		Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+		weights.put(Endpoint.CREATE, weight("create", 10));
+		weights.put(Endpoint.FILTERS, weight("filters", 40));
+		weights.put(Endpoint.UPDATE_STATUS, weight("update-status", 20));
+		weights.put(Endpoint.FIND_BY_ID, weight("find-by-id", 30));
+		return weights;
+	}
+
+	private static int weight(String endpoint, int defaultWeight) {
+		return Integer.getInteger(WEIGHT_PREFIX + endpoint, defaultWeight);
+	}
+}
@@ -0,0 +1,77 @@
+package com.github.silviacristinaa.tasks.caches;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.repositories.TaskSpecifications;
+import com.github.silviacristinaa.tasks.utils.TransactionCallbacks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * All tasks of an employee, ordered by end date, keyed by employee id. The memory bound is a total number of
+ * cached tasks ({@code tasks.employee-tasks.cache.maximum-weight}). Employees with more than
+ * {@code tasks.employee-tasks.cache.max-tasks-per-employee} tasks are not cached: only an empty marker is kept, and
+ * callers page them from the database instead. Writes evict the affected employees after their transaction commits.
+ * The write TTL limits how long writes made by other instances stay invisible.
+ */
+@Component
+public class EmployeeTasksCache {
+
+	private static final String CACHE_NAME = "employeeTasks";
+	public static final Sort SORT = Sort.by(Sort.Order.asc("endDate"), Sort.Order.asc("id"));
+
+	private final TaskRepository taskRepository;
+	private final int maxTasksPerEmployee;
+	private final LoadingCache<Long, Optional<List<TaskResponseDto>>> cache;
+
+	public EmployeeTasksCache(TaskRepository taskRepository, MeterRegistry meterRegistry,
+			@Value("${tasks.employee-tasks.cache.maximum-weight:100000}") long maximumWeight,
+			@Value("${tasks.employee-tasks.cache.expire-after-write:1m}") Duration expireAfterWrite,
+			@Value("${tasks.employee-tasks.cache.max-tasks-per-employee:1000}") int maxTasksPerEmployee) {
+		this.taskRepository = taskRepository;
+		this.maxTasksPerEmployee = maxTasksPerEmployee;
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maximumWeight)
+				.weigher((Long employeeId, Optional<List<TaskResponseDto>> tasks) -> 
+						tasks.map(List::size).orElse(0) + 1)
+				.expireAfterWrite(expireAfterWrite)
+				.recordStats()
+				.build(this::load);
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * @return an unmodifiable list, shared between callers, or empty when the employee has more tasks than the cap
+	 */
+	public Optional<List<TaskResponseDto>> findByEmployeeId(Long employeeId) {
+		return cache.get(employeeId);
+	}
+
+	public void evictAfterCommit(Collection<Long> employeeIds) {
+		TransactionCallbacks.afterCommit(() -> cache.invalidateAll(employeeIds));
+	}
+
+	public void evictAllAfterCommit() {
+		TransactionCallbacks.afterCommit(cache::invalidateAll);
+	}
+
+	private Optional<List<TaskResponseDto>> load(Long employeeId) {
+		Slice<TaskResponseDto> tasks = taskRepository.findResponseSlice(TaskSpecifications.hasEmployeeId(employeeId),
+				PageRequest.of(0, maxTasksPerEmployee, SORT));
+		return tasks.hasNext() ? Optional.empty() : Optional.of(List.copyOf(tasks.getContent()));
+	}
+}
@@ -0,0 +1,157 @@
+package com.github.silviacristinaa.tasks.clients;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CustomizableThreadFactory;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local cache in front of {@link EmployeesClient#findById(Long)}. Employees that do not exist are cached as
+ * {@link Optional#empty()} with a shorter TTL, and entries are reloaded in the background once they are older
+ * than the refresh interval. Any other failure is propagated and not cached.
+ * <p>
+ * {@link #findAllById(Collection)} looks up the missing employees concurrently, at most
+ * {@code tasks.employees.cache.bulk-load-concurrency} at a time, which stays under the client's bulkhead.
+ */
+@Slf4j
+@Component
+public class EmployeesCache {
+
+	private static final String CACHE_NAME = "employees";
+	private static final String BULK_LOAD_THREAD_PREFIX = "employees-bulk-load-";
+
+	private final EmployeesClient employeesClient;
+	private final LoadingCache<Long, Optional<EmployeeResponseDto>> cache;
+	private final ExecutorService bulkLoader;
+
+	public EmployeesCache(EmployeesClient employeesClient, MeterRegistry meterRegistry,
+			@Value("${tasks.employees.cache.maximum-size:10000}") long maximumSize,
+			@Value("${tasks.employees.cache.expire-after-write:10m}") Duration expireAfterWrite,
+			@Value("${tasks.employees.cache.refresh-after-write:1m}") Duration refreshAfterWrite,
+			@Value("${tasks.employees.cache.not-found-expire-after-write:30s}") Duration notFoundExpireAfterWrite,
+			@Value("${tasks.employees.cache.bulk-load-concurrency:8}") int bulkLoadConcurrency) {
+		this.employeesClient = employeesClient;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new WriteExpiry(expireAfterWrite, notFoundExpireAfterWrite))
+				.refreshAfterWrite(refreshAfterWrite)
+				.recordStats()
+				.build(new CacheLoader<>() {
+					@Override
+					public Optional<EmployeeResponseDto> load(Long id) {
+						return EmployeesCache.this.load(id);
+					}
+
+					@Override
+					public Map<Long, Optional<EmployeeResponseDto>> loadAll(Set<? extends Long> ids) {
+						return EmployeesCache.this.loadAll(ids);
+					}
+				});
+		this.bulkLoader = Executors.newFixedThreadPool(bulkLoadConcurrency, new CustomizableThreadFactory(
+				BULK_LOAD_THREAD_PREFIX));
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * @return the employee, or empty when the employees api answered 404
+	 */
+	public Optional<EmployeeResponseDto> findById(Long id) {
+		return cache.get(id);
+	}
+
+	/**
+	 * @return the employees by id, empty for those the employees api answered 404 for; ids whose lookup failed
+	 * are missing from the map
+	 */
+	public Map<Long, Optional<EmployeeResponseDto>> findAllById(Collection<Long> ids) {
+		return cache.getAll(ids);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		bulkLoader.shutdownNow();
+	}
+
+	private Map<Long, Optional<EmployeeResponseDto>> loadAll(Set<? extends Long> ids) {
+		Map<Long, CompletableFuture<Optional<EmployeeResponseDto>>> lookups = new HashMap<>();
+		for (Long id : ids) {
+			lookups.put(id, CompletableFuture.supplyAsync(() -> load(id), bulkLoader));
+		}
+		Map<Long, Optional<EmployeeResponseDto>> employees = new HashMap<>();
+		lookups.forEach((id, lookup) -> {
+			try {
+				employees.put(id, lookup.join());
+			} catch (CompletionException ex) {
+				log.warn("Employee {} could not be loaded", id, ex.getCause());
+			}
+		});
+		return employees;
+	}
+
+	private Optional<EmployeeResponseDto> load(Long id) {
+		try {
+			return Optional.of(employeesClient.findById(id).getBody());
+		} catch (RuntimeException ex) {
+			// the circuit breaker wraps client errors in NoFallbackAvailableException
+			if (isNotFound(ex) || isNotFound(ex.getCause())) {
+				return Optional.empty();
+			}
+			throw ex;
+		}
+	}
+	
+	private static boolean isNotFound(Throwable ex) {
+		return ex instanceof FeignException feignException && HttpStatus.NOT_FOUND.value() == feignException.status();
+	}
+
+	private static class WriteExpiry implements Expiry<Long, Optional<EmployeeResponseDto>> {
+
+		private final long foundNanos;
+		private final long notFoundNanos;
+
+		WriteExpiry(Duration found, Duration notFound) {
+			this.foundNanos = found.toNanos();
+			this.notFoundNanos = notFound.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(Long key, Optional<EmployeeResponseDto> value, long currentTime) {
+			return value.isPresent() ? foundNanos : notFoundNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(Long key, Optional<EmployeeResponseDto> value, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long key, Optional<EmployeeResponseDto> value, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
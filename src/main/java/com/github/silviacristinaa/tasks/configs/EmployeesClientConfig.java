@@ -0,0 +1,58 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+
+/**
+ * Circuit breaker and bulkhead around the employees Feign client. 404s are an answer, not a failure, so they do
+ * not count towards opening the circuit.
+ */
+@Configuration
+public class EmployeesClientConfig {
+
+	@Bean
+	public Customizer<Resilience4JCircuitBreakerFactory> employeesCircuitBreakerCustomizer(
+			@Value("${tasks.employees.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+			@Value("${tasks.employees.circuit-breaker.slow-call-duration-threshold:1s}") Duration slowCallDurationThreshold,
+			@Value("${tasks.employees.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+			@Value("${tasks.employees.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+			@Value("${tasks.employees.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+			@Value("${tasks.employees.time-limiter.timeout:5s}") Duration timeout) {
+		return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+				.circuitBreakerConfig(CircuitBreakerConfig.custom()
+						.failureRateThreshold(failureRateThreshold)
+						.slowCallDurationThreshold(slowCallDurationThreshold)
+						.slidingWindowSize(slidingWindowSize)
+						.minimumNumberOfCalls(minimumNumberOfCalls)
+						.waitDurationInOpenState(waitDurationInOpenState)
+						.ignoreExceptions(FeignException.NotFound.class)
+						.build())
+				.timeLimiterConfig(TimeLimiterConfig.custom().timeoutDuration(timeout).build())
+				.build());
+	}
+
+	@Bean
+	public Customizer<Resilience4jBulkheadProvider> employeesBulkheadCustomizer(
+			@Value("${tasks.employees.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+			@Value("${tasks.employees.bulkhead.max-wait-duration:100ms}") Duration maxWaitDuration) {
+		return provider -> provider.configureDefault(id -> new Resilience4jBulkheadConfigurationBuilder()
+				.bulkheadConfig(BulkheadConfig.custom()
+						.maxConcurrentCalls(maxConcurrentCalls)
+						.maxWaitDuration(maxWaitDuration)
+						.build())
+				.build());
+	}
+}
@@ -0,0 +1,43 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The export stream is the only async MVC work, and each one holds a database connection and a cursor for as long
+ * as the client reads. It gets its own pool instead of the shared {@code applicationTaskExecutor}: at most
+ * {@code tasks.export.executor.pool-size} exports run at once, {@code queue-capacity} more wait, and the rest are
+ * rejected with 503. {@code spring.mvc.async.request-timeout} bounds how long one export may take.
+ * <p>
+ * The pool is deliberately not a bean, so it does not replace Spring Boot's {@code applicationTaskExecutor}.
+ */
+@Configuration
+public class ExportConfig implements WebMvcConfigurer, DisposableBean {
+
+	private static final String THREAD_NAME_PREFIX = "task-export-";
+
+	private final ThreadPoolTaskExecutor exportTaskExecutor = new ThreadPoolTaskExecutor();
+
+	public ExportConfig(@Value("${tasks.export.executor.pool-size:4}") int poolSize,
+			@Value("${tasks.export.executor.queue-capacity:8}") int queueCapacity) {
+		exportTaskExecutor.setCorePoolSize(poolSize);
+		exportTaskExecutor.setMaxPoolSize(poolSize);
+		exportTaskExecutor.setQueueCapacity(queueCapacity);
+		exportTaskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		exportTaskExecutor.initialize();
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(exportTaskExecutor);
+	}
+
+	@Override
+	public void destroy() {
+		exportTaskExecutor.shutdown();
+	}
+}
@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers MySQL's MATCH ... AGAINST as the HQL/Criteria function {@value #MATCH_AGAINST}, returning the
+ * relevance score. Loaded by Hibernate through META-INF/services.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+	public static final String MATCH_AGAINST = "match_against";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST,
+				"match (?1, ?2) against (?3 in boolean mode)",
+				functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+	}
+}
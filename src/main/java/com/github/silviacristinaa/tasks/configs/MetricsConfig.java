@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Repository invocations ({@code spring.data.repository.invocations}),
+ * employees api calls (Feign's {@code http.client.requests}), the Hikari pool and Tomcat threads are
+ * instrumented by Spring Boot and Spring Cloud themselves; histograms and exposure are set in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+}
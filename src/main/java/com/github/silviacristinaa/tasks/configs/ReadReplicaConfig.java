@@ -0,0 +1,106 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.silviacristinaa.tasks.datasources.ReadReplicaRoutingDataSource;
+import com.github.silviacristinaa.tasks.datasources.ReadYourWritesFilter;
+import com.github.silviacristinaa.tasks.datasources.ReplicaCacheModeJpaDialect;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Replaces the single {@code spring.datasource} pool with a primary pool plus one pool per
+ * {@code tasks.read-replicas.urls} entry (comma separated). Every read-only transaction goes to the replicas unless
+ * the request is pinned by {@link ReadYourWritesFilter}; everything else, including Flyway, the ShedLock provider
+ * and the statistics reconcile (read-write on purpose), keeps using the primary. Replica pools
+ * start even when their database is down and fail fast, so a missing replica only costs a fallback to the primary.
+ * Transactions that read from a replica do not fill the Hibernate caches (see {@link ReplicaCacheModeJpaDialect}),
+ * and replica health checks run on their own thread rather than the shared scheduler.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	private static final String HEALTHY_REPLICAS_METRIC = "tasks.read.replicas.healthy";
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+			DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry,
+			@Value("${tasks.read-replicas.urls}") List<String> urls,
+			@Value("${tasks.read-replicas.username:${spring.datasource.username:}}") String username,
+			@Value("${tasks.read-replicas.password:${spring.datasource.password:}}") String password,
+			@Value("${tasks.read-replicas.maximum-pool-size:10}") int maximumPoolSize,
+			@Value("${tasks.read-replicas.connection-timeout:1s}") Duration connectionTimeout,
+			@Value("${tasks.read-replicas.health-check-interval:PT5S}") Duration healthCheckInterval) {
+		List<DataSource> replicas = new ArrayList<>();
+		for (int index = 0; index < urls.size(); index++) {
+			HikariConfig config = new HikariConfig();
+			config.setPoolName("tasks-replica-" + (index + 1));
+			config.setJdbcUrl(urls.get(index).trim());
+			config.setUsername(username);
+			config.setPassword(password);
+			config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+			config.setMaximumPoolSize(maximumPoolSize);
+			config.setConnectionTimeout(connectionTimeout.toMillis());
+			config.setInitializationFailTimeout(-1);
+			config.setReadOnly(true);
+			config.setMetricRegistry(meterRegistry);
+			replicas.add(new HikariDataSource(config));
+		}
+		ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+		routingDataSource.startHealthChecks(healthCheckInterval);
+		Gauge.builder(HEALTHY_REPLICAS_METRIC, routingDataSource, ReadReplicaRoutingDataSource::getHealthyReplicas)
+				.description("Read replicas currently receiving read-only transactions")
+				.register(meterRegistry);
+		return routingDataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+	}
+
+	@Bean
+	public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+			ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+			ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+		JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+		transactionManager.setJpaDialect(new ReplicaCacheModeJpaDialect(readReplicaRoutingDataSource));
+		transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+		return transactionManager;
+	}
+
+	@Bean
+	public ReadYourWritesFilter readYourWritesFilter(
+			@Value("${tasks.read-replicas.stickiness:5s}") Duration stickiness) {
+		return new ReadYourWritesFilter(stickiness);
+	}
+}
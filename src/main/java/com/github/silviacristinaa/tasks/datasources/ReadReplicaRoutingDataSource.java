@@ -0,0 +1,201 @@
+package com.github.silviacristinaa.tasks.datasources;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands out replica connections, round robin, inside read-only transactions and primary connections everywhere
+ * else. It has to sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager opens the
+ * connection before the read-only flag is bound to the thread.
+ * <p>
+ * Reads also go to the primary while the thread is pinned by {@link ReadYourWritesFilter}, or when no replica is
+ * healthy. A JPA transaction fixes its target when it begins ({@link #selectTarget(boolean)}, called by
+ * {@link ReplicaCacheModeJpaDialect}), so the dialect knows whether it reads from a replica before Hibernate decides
+ * what to cache. A replica that fails to hand out a connection is skipped until the next health check finds it valid.
+ * Health checks run on their own thread, so a replica that hangs until the validation timeout does not hold up
+ * the application's scheduled jobs.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+	private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+	// empty selects the primary; unset leaves the choice to each connection request
+	private static final ThreadLocal<Optional<Replica>> SELECTED_TARGET = new ThreadLocal<>();
+	private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+	private static final String HEALTH_CHECK_THREAD = "read-replica-health-check";
+
+	private final DataSource primary;
+	private final List<Replica> replicas = new ArrayList<>();
+	private final AtomicInteger next = new AtomicInteger();
+	private ScheduledExecutorService healthChecks;
+
+	public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+		this.primary = primary;
+		for (int index = 0; index < replicas.size(); index++) {
+			this.replicas.add(new Replica("replica-" + (index + 1), replicas.get(index)));
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return route(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return route(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	/**
+	 * Selects where the transaction that is beginning on this thread reads from: the next healthy replica for a
+	 * read-only transaction that is not pinned, the primary otherwise.
+	 * @return the previous selection, to hand back to {@link #restoreTarget(Object)} when the transaction ends
+	 */
+	public Object selectTarget(boolean readOnly) {
+		Optional<Replica> previous = SELECTED_TARGET.get();
+		SELECTED_TARGET.set(readOnly && PINNED_TO_PRIMARY.get() == null ? nextHealthyReplica() : Optional.empty());
+		return previous;
+	}
+
+	@SuppressWarnings("unchecked")
+	public void restoreTarget(Object previous) {
+		if (previous == null) {
+			SELECTED_TARGET.remove();
+		} else {
+			SELECTED_TARGET.set((Optional<Replica>) previous);
+		}
+	}
+
+	public boolean isReplicaSelected() {
+		Optional<Replica> selected = SELECTED_TARGET.get();
+		return selected != null && selected.isPresent();
+	}
+
+	public int getHealthyReplicas() {
+		return (int) replicas.stream().filter(replica -> replica.healthy).count();
+	}
+
+	public synchronized void startHealthChecks(Duration interval) {
+		if (healthChecks != null) {
+			return;
+		}
+		healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, HEALTH_CHECK_THREAD);
+			thread.setDaemon(true);
+			return thread;
+		});
+		healthChecks.scheduleWithFixedDelay(() -> {
+			try {
+				checkReplicas();
+			} catch (RuntimeException ex) {
+				log.warn("Read replica health check failed", ex);
+			}
+		}, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public void checkReplicas() {
+		for (Replica replica : replicas) {
+			boolean valid;
+			try (Connection connection = replica.dataSource.getConnection()) {
+				valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+			} catch (SQLException ex) {
+				valid = false;
+			}
+			if (valid && !replica.healthy) {
+				log.info("Read replica {} is back, routing read-only transactions to it", replica.name);
+			} else if (!valid && replica.healthy) {
+				log.warn("Read replica {} failed its health check, reading from the primary", replica.name);
+			}
+			replica.healthy = valid;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (healthChecks != null) {
+			healthChecks.shutdownNow();
+		}
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof Closeable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	static void pinToPrimary() {
+		PINNED_TO_PRIMARY.set(Boolean.TRUE);
+	}
+
+	static void unpin() {
+		PINNED_TO_PRIMARY.remove();
+	}
+
+	private Connection route(ConnectionSource source) throws SQLException {
+		Optional<Replica> selected = SELECTED_TARGET.get();
+		if (selected != null) {
+			// a replica that refuses the connection falls back, but the transaction keeps its replica cache mode
+			return connect(source, selected);
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PINNED_TO_PRIMARY.get() != null) {
+			return source.getConnection(primary);
+		}
+		return connect(source, nextHealthyReplica());
+	}
+
+	private Optional<Replica> nextHealthyReplica() {
+		for (int attempt = 0; attempt < replicas.size(); attempt++) {
+			Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+			if (replica.healthy) {
+				return Optional.of(replica);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Connection connect(ConnectionSource source, Optional<Replica> replica) throws SQLException {
+		for (int attempt = 0; attempt < replicas.size() && replica.isPresent(); attempt++) {
+			try {
+				return source.getConnection(replica.get().dataSource);
+			} catch (SQLException ex) {
+				replica.get().healthy = false;
+				log.warn("Read replica {} refused a connection, reading from the primary", replica.get().name, ex);
+				replica = nextHealthyReplica();
+			}
+		}
+		return source.getConnection(primary);
+	}
+
+	@FunctionalInterface
+	private interface ConnectionSource {
+		Connection getConnection(DataSource dataSource) throws SQLException;
+	}
+
+	private static final class Replica {
+
+		private final String name;
+		private final DataSource dataSource;
+		private volatile boolean healthy = true;
+
+		private Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.silviacristinaa.tasks.datasources;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes for clients that keep cookies: a write request gets a cookie holding the time until which that
+ * client reads from the primary ({@code tasks.read-replicas.stickiness}, longer than the expected replication
+ * lag). Requests carrying an unexpired cookie, and the write request itself, are pinned to the primary. The expiry
+ * travels with the client, so it holds whichever instance serves the next request.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	static final String COOKIE_NAME = "tasks-read-primary-until";
+
+	private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(),
+			HttpMethod.OPTIONS.name());
+
+	private final Duration stickiness;
+
+	public ReadYourWritesFilter(Duration stickiness) {
+		this.stickiness = stickiness;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long now = System.currentTimeMillis();
+		boolean write = !SAFE_METHODS.contains(request.getMethod());
+		if (write) {
+			response.addCookie(stickyCookie(request, now + stickiness.toMillis()));
+		}
+		if (!write && !isSticky(request, now)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		ReadReplicaRoutingDataSource.pinToPrimary();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReadReplicaRoutingDataSource.unpin();
+		}
+	}
+
+	private Cookie stickyCookie(HttpServletRequest request, long until) {
+		Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+		cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+		cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds() + 1));
+		cookie.setHttpOnly(true);
+		return cookie;
+	}
+
+	private boolean isSticky(HttpServletRequest request, long now) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return false;
+		}
+		for (Cookie cookie : cookies) {
+			if (COOKIE_NAME.equals(cookie.getName())) {
+				try {
+					return now < Long.parseLong(cookie.getValue());
+				} catch (NumberFormatException ex) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+}
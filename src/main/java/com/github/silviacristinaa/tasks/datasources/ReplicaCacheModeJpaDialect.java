@@ -0,0 +1,61 @@
+package com.github.silviacristinaa.tasks.datasources;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Replicas can lag behind the primary. Letting a transaction that reads from one put what it read into the
+ * second-level and query caches would serve that lag to every later reader, pinned or not, until the entries
+ * expire. Each transaction therefore has its target selected by {@link ReadReplicaRoutingDataSource} as it begins,
+ * and transactions routed to a replica use {@link CacheMode#GET}: cache hits are still served, but only
+ * transactions on the primary (writes, pinned reads and reads while no replica is healthy) fill the caches. Every
+ * other transaction is reset to {@link CacheMode#NORMAL}, since with open-in-view the same session can run several
+ * transactions.
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+	private final ReadReplicaRoutingDataSource routingDataSource;
+
+	public ReplicaCacheModeJpaDialect(ReadReplicaRoutingDataSource routingDataSource) {
+		this.routingDataSource = routingDataSource;
+	}
+
+	@Override
+	public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+			throws PersistenceException, SQLException, TransactionException {
+		Object previousTarget = routingDataSource.selectTarget(definition.isReadOnly());
+		boolean begun = false;
+		try {
+			Object transactionData = super.beginTransaction(entityManager, definition);
+			entityManager.unwrap(Session.class).setCacheMode(routingDataSource.isReplicaSelected() ? CacheMode.GET
+					: CacheMode.NORMAL);
+			begun = true;
+			return new RoutedTransactionData(transactionData, previousTarget);
+		} finally {
+			if (!begun) {
+				routingDataSource.restoreTarget(previousTarget);
+			}
+		}
+	}
+
+	@Override
+	public void cleanupTransaction(Object transactionData) {
+		RoutedTransactionData routed = (RoutedTransactionData) transactionData;
+		try {
+			super.cleanupTransaction(routed.transactionData);
+		} finally {
+			routingDataSource.restoreTarget(routed.previousTarget);
+		}
+	}
+
+	private record RoutedTransactionData(Object transactionData, Object previousTarget) {
+	}
+}
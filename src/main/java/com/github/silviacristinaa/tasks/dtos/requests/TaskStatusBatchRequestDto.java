@@ -0,0 +1,25 @@
+package com.github.silviacristinaa.tasks.dtos.requests;
+
+import java.util.List;
+
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class TaskStatusBatchRequestDto {
+	
+	@NotEmpty
+	@Size(max = 1000)
+	private List<@NotNull Long> ids;
+	@NotNull
+	private StatusEnum status; 
+}
@@ -0,0 +1,24 @@
+package com.github.silviacristinaa.tasks.dtos.responses;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.github.silviacristinaa.tasks.enums.BatchItemStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@JsonInclude(Include.NON_EMPTY)
+public class TaskBatchItemResponseDto {
+	
+	private int index;
+	private BatchItemStatusEnum status;
+	private Long id;
+	private List<String> errors;
+}
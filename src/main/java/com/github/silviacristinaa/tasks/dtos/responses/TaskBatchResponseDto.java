@@ -0,0 +1,18 @@
+package com.github.silviacristinaa.tasks.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class TaskBatchResponseDto {
+	
+	private int created; 
+	private int failed;
+	private List<TaskBatchItemResponseDto> items;
+}
@@ -0,0 +1,17 @@
+package com.github.silviacristinaa.tasks.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class TaskCursorResponseDto {
+	
+	private List<TaskResponseDto> content;
+	private String nextToken;
+}
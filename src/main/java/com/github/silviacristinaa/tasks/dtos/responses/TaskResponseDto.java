@@ -23,4 +23,5 @@ public class TaskResponseDto {
 	private PriorityEnum priority; 
 	private StatusEnum status;  
 	private Long employeeId; 
+	private Long version;
 }
\ No newline at end of file
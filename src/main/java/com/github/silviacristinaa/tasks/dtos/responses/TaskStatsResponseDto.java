@@ -0,0 +1,29 @@
+package com.github.silviacristinaa.tasks.dtos.responses;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStatsResponseDto {
+
+	private long total;
+	private Map<StatusEnum, Long> byStatus;
+	private Map<PriorityEnum, Long> byPriority;
+	private Map<Long, Long> byEmployee;
+	private Map<YearMonth, Long> byStartMonth;
+	private Map<YearMonth, Long> byEndMonth;
+	private Instant reconciledAt;
+}
@@ -0,0 +1,15 @@
+package com.github.silviacristinaa.tasks.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class TaskStatusBatchResponseDto {
+	
+	private int requested;
+	private int updated;
+}
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -14,10 +16,22 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Getter @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
+@Table(indexes = {
+		@Index(name = "idx_task_employee_status_end_date", columnList = "employeeId, status, endDate"),
+		@Index(name = "idx_task_status_end_date", columnList = "status, endDate"),
+		@Index(name = "idx_task_end_date", columnList = "endDate"),
+		@Index(name = "idx_task_start_date", columnList = "startDate")
+})
 public class Task {
 	
+	public static final String CACHE_REGION = "task";
+	public static final String QUERY_CACHE_REGION = "task-queries";
+	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+	@SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
 	private Long id; 
 	@Column(nullable = false, length = 100)
 	private String title; 
@@ -33,4 +47,7 @@ public class Task {
 	private StatusEnum status;  
 	@Column(nullable = false) 
 	private Long employeeId; 
+	@Version
+	@Column(nullable = false)
+	private Long version;
 }
\ No newline at end of file
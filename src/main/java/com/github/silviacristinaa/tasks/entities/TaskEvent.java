@@ -0,0 +1,50 @@
+package com.github.silviacristinaa.tasks.entities;
+
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for one task change, with the task's columns as they are after the change (before it, for DELETED).
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Entity
+public class TaskEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	@Column(nullable = false)
+	private Long taskId;
+	@Column(nullable = false, length = 32)
+	@Enumerated(EnumType.STRING)
+	private TaskEventTypeEnum type;
+	@Column(nullable = false, length = 100)
+	private String title;
+	private String description;
+	@Column(nullable = false)
+	private LocalDate startDate;
+	@Column(nullable = false)
+	private LocalDate endDate;
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private PriorityEnum priority;
+	@Enumerated(EnumType.STRING)
+	private StatusEnum status;
+	@Column(nullable = false)
+	private Long employeeId;
+	@Column(nullable = false)
+	private Long taskVersion;
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
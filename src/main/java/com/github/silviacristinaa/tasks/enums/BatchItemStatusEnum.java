@@ -0,0 +1,5 @@
+package com.github.silviacristinaa.tasks.enums;
+
+public enum BatchItemStatusEnum {
+	CREATED, FAILED
+}
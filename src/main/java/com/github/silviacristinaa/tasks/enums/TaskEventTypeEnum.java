@@ -0,0 +1,5 @@
+package com.github.silviacristinaa.tasks.enums;
+
+public enum TaskEventTypeEnum {
+	CREATED, UPDATED, STATUS_UPDATED, DELETED
+}
@@ -2,6 +2,8 @@ package com.github.silviacristinaa.tasks.exceptions;
 
 import java.util.Arrays;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -9,23 +11,40 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Every handled exception is counted as {@code tasks.errors} tagged with its class and the response status. Both
+ * come from a closed set, so the tags stay low-cardinality.
+ */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
 	private static final String EXCEPTION_MSG_UNEXPECTED_ERROR = "Unexpected error";
 	private static final String EXCEPTION_MSG_BAD_REQUEST = "Bad Request error";
 	private static final String EXCEPTION_MSG_ARGUMENTS_NOT_VALID = "Arguments not valid";
 	private static final String NOT_FOUND_MSG = "Not found";
+	private static final String PRECONDITION_FAILED_MSG = "Precondition failed";
+	private static final String SERVICE_UNAVAILABLE_MSG = "Service unavailable";
 	
 	private static final String EXCEPTION_LOG_MSG = "e=%s,m=%s";
 	
+	private static final String ERRORS_METRIC = "tasks.errors";
+	private static final String EXCEPTION_TAG = "exception";
+	private static final String STATUS_TAG = "status";
+	
+	private final MeterRegistry meterRegistry;
+	
 	@ExceptionHandler(Exception.class)
 	@ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
 	public ResponseEntity<ErrorMessage> processException(final Exception ex) {
 		logE(ex);
+		count(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 		
 		return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_UNEXPECTED_ERROR)
 				.errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -35,6 +54,7 @@ public class GlobalExceptionHandler {
 	@ResponseStatus(value = HttpStatus.BAD_REQUEST)
 	public ResponseEntity<ErrorMessage> handleMethodBadRequestException(final BadRequestException ex) {
 		logE(ex);
+		count(ex, HttpStatus.BAD_REQUEST);
 		
 		final ErrorMessage errorMessage = ErrorMessage.builder().message(EXCEPTION_MSG_BAD_REQUEST)
 				.errors(Arrays.asList(ex.getMessage())).build();
@@ -45,6 +65,7 @@ public class GlobalExceptionHandler {
 	@ResponseStatus(value = HttpStatus.BAD_REQUEST)
 	public ResponseEntity<ErrorMessage> handleMethodArgumentBadRequestException(final MethodArgumentNotValidException ex) {
 		logE(ex);
+		count(ex, HttpStatus.BAD_REQUEST);
 		
 		return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_ARGUMENTS_NOT_VALID)
 				.errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
@@ -53,12 +74,52 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(NotFoundException.class)
 	public ResponseEntity<ErrorMessage> handleMethodArgumentNotFoundException(final NotFoundException ex) {
 		logE(ex);
+		count(ex, HttpStatus.NOT_FOUND);
 		
 		final ErrorMessage errorMessage = ErrorMessage.builder().message(NOT_FOUND_MSG)
 				.errors(Arrays.asList(ex.getMessage())).build();
 		return new ResponseEntity<>(errorMessage, HttpStatus.NOT_FOUND);
 	}
 	
+	@ExceptionHandler(PreconditionFailedException.class)
+	public ResponseEntity<ErrorMessage> handlePreconditionFailedException(final PreconditionFailedException ex) {
+		logE(ex);
+		count(ex, HttpStatus.PRECONDITION_FAILED);
+		
+		final ErrorMessage errorMessage = ErrorMessage.builder().message(PRECONDITION_FAILED_MSG)
+				.errors(Arrays.asList(ex.getMessage())).build();
+		return new ResponseEntity<>(errorMessage, HttpStatus.PRECONDITION_FAILED);
+	}
+	
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(final OptimisticLockingFailureException ex) {
+		logE(ex);
+		count(ex, HttpStatus.PRECONDITION_FAILED);
+		
+		final ErrorMessage errorMessage = ErrorMessage.builder().message(PRECONDITION_FAILED_MSG)
+				.errors(Arrays.asList(ex.getMessage())).build();
+		return new ResponseEntity<>(errorMessage, HttpStatus.PRECONDITION_FAILED);
+	}
+	
+	@ExceptionHandler(TaskRejectedException.class)
+	public ResponseEntity<ErrorMessage> handleTaskRejectedException(final TaskRejectedException ex) {
+		logE(ex);
+		count(ex, HttpStatus.SERVICE_UNAVAILABLE);
+		
+		final ErrorMessage errorMessage = ErrorMessage.builder().message(SERVICE_UNAVAILABLE_MSG)
+				.errors(Arrays.asList(ex.getMessage())).build();
+		return new ResponseEntity<>(errorMessage, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+	
+	private void count(final Exception e, final HttpStatus status) {
+		Counter.builder(ERRORS_METRIC)
+				.description("Exceptions turned into error responses")
+				.tag(EXCEPTION_TAG, e.getClass().getSimpleName())
+				.tag(STATUS_TAG, String.valueOf(status.value()))
+				.register(meterRegistry)
+				.increment();
+	}
+	
 	private static void logE(final Exception e) {
 	    final String message = String.format(EXCEPTION_LOG_MSG, e.getClass().getSimpleName(), e.getMessage());
 	    log.error(message, e);
@@ -0,0 +1,14 @@
+package com.github.silviacristinaa.tasks.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public PreconditionFailedException(final String error) {
+		super(error);
+	}
+}
@@ -0,0 +1,104 @@
+package com.github.silviacristinaa.tasks.exports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
+
+/**
+ * Writes tasks one row at a time, so the export never holds more than the current row in memory. The output
+ * stream is flushed but left open for the container to close.
+ */
+@Component
+public class TaskExportWriter {
+
+	private static final String CSV_HEADER = "id,title,description,startDate,endDate,priority,status,employeeId";
+	private static final char CSV_SEPARATOR = ',';
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final ObjectWriter objectWriter;
+
+	public TaskExportWriter(ObjectMapper objectMapper) {
+		this.objectWriter = objectMapper.writerFor(TaskResponseDto.class);
+	}
+
+	public void write(Stream<TaskResponseDto> tasks, ExportFormatEnum format, OutputStream outputStream)
+			throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		writer.write(header(format));
+		Iterator<TaskResponseDto> iterator = tasks.iterator();
+		while (iterator.hasNext()) {
+			writeLine(writer, iterator.next(), format);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * @return the text that precedes the first row, empty for NDJSON
+	 */
+	public String header(ExportFormatEnum format) {
+		return format == ExportFormatEnum.CSV ? CSV_HEADER + LINE_SEPARATOR : "";
+	}
+
+	/**
+	 * @return one row, including its line separator
+	 */
+	public String line(TaskResponseDto task, ExportFormatEnum format) throws IOException {
+		StringBuilder line = new StringBuilder();
+		writeLine(line, task, format);
+		return line.toString();
+	}
+
+	private void writeLine(Appendable out, TaskResponseDto task, ExportFormatEnum format) throws IOException {
+		if (format == ExportFormatEnum.CSV) {
+			writeCsv(out, task);
+		} else {
+			out.append(objectWriter.writeValueAsString(task));
+		}
+		out.append(LINE_SEPARATOR);
+	}
+
+	private void writeCsv(Appendable out, TaskResponseDto task) throws IOException {
+		out.append(String.valueOf(task.getId()));
+		out.append(CSV_SEPARATOR);
+		out.append(escapeCsv(task.getTitle()));
+		out.append(CSV_SEPARATOR);
+		out.append(escapeCsv(task.getDescription()));
+		out.append(CSV_SEPARATOR);
+		out.append(toCsv(task.getStartDate()));
+		out.append(CSV_SEPARATOR);
+		out.append(toCsv(task.getEndDate()));
+		out.append(CSV_SEPARATOR);
+		out.append(toCsv(task.getPriority()));
+		out.append(CSV_SEPARATOR);
+		out.append(toCsv(task.getStatus()));
+		out.append(CSV_SEPARATOR);
+		out.append(toCsv(task.getEmployeeId()));
+	}
+
+	private static String toCsv(Object value) {
+		return value == null ? "" : value.toString();
+	}
+
+	private static String escapeCsv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(CSV_SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+				&& value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
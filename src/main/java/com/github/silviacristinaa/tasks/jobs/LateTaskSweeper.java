@@ -0,0 +1,112 @@
+package com.github.silviacristinaa.tasks.jobs;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.silviacristinaa.tasks.caches.EmployeeTasksCache;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import com.github.silviacristinaa.tasks.outbox.TaskOutbox;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.stats.TaskStatistics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Marks IN_PROGRESS tasks whose end date has passed as LATE. Rows are locked and updated in chunks of at most
+ * {@code tasks.late-sweeper.chunk-size}, each in its own transaction together with its outbox events, until a
+ * chunk comes back short.
+ * <p>
+ * "Today" and the cron are both evaluated in {@code tasks.late-sweeper.zone} (UTC by default, like the
+ * {@code serverTimezone} the JDBC URL pins), not in the JVM default zone.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.late-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class LateTaskSweeper {
+
+	private static final String LOCK_NAME = "lateTaskSweeper";
+	private static final String ROWS_METRIC = "tasks.late.sweeper.rows";
+	private static final String DURATION_METRIC = "tasks.late.sweeper.duration";
+
+	private final TaskRepository taskRepository;
+	private final TaskStatistics taskStatistics;
+	private final TaskOutbox taskOutbox;
+	private final EmployeeTasksCache employeeTasksCache;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+	private final int chunkSize;
+	private final MeterRegistry meterRegistry;
+	private final Counter rows;
+	private final Timer duration;
+
+	public LateTaskSweeper(TaskRepository taskRepository, TaskStatistics taskStatistics, TaskOutbox taskOutbox,
+			EmployeeTasksCache employeeTasksCache, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry, @Value("${tasks.late-sweeper.chunk-size:1000}") int chunkSize,
+			@Value("${tasks.late-sweeper.zone:UTC}") ZoneId zone) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("tasks.late-sweeper.chunk-size must be positive");
+		}
+		this.taskRepository = taskRepository;
+		this.taskStatistics = taskStatistics;
+		this.taskOutbox = taskOutbox;
+		this.employeeTasksCache = employeeTasksCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.clock = Clock.system(zone);
+		this.chunkSize = chunkSize;
+		this.meterRegistry = meterRegistry;
+		this.rows = Counter.builder(ROWS_METRIC)
+				.description("Tasks marked as LATE by the sweeper")
+				.register(meterRegistry);
+		this.duration = Timer.builder(DURATION_METRIC)
+				.description("Duration of a LATE sweeper run")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${tasks.late-sweeper.cron:0 */5 * * * *}", zone = "${tasks.late-sweeper.zone:UTC}")
+	@SchedulerLock(name = LOCK_NAME, lockAtMostFor = "${tasks.late-sweeper.lock-at-most-for:10m}")
+	public void sweep() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int total = markOverdueAsLate(LocalDate.now(clock));
+		sample.stop(duration);
+		if (total > 0) {
+			employeeTasksCache.evictAllAfterCommit();
+			log.info("Marked {} overdue tasks as LATE", total);
+		}
+	}
+
+	int markOverdueAsLate(LocalDate today) {
+		int total = 0;
+		int updated;
+		do {
+			updated = transactionTemplate.execute(status -> markChunkAsLate(today));
+			total += updated;
+			rows.increment(updated);
+			taskStatistics.moveStatus(StatusEnum.IN_PROGRESS, StatusEnum.LATE, updated);
+		} while (updated == chunkSize);
+		return total;
+	}
+
+	private int markChunkAsLate(LocalDate today) {
+		List<Long> ids = taskRepository.findOverdueIdsForUpdate(today, chunkSize);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		int updated = taskRepository.markLateByIdIn(ids);
+		taskOutbox.append(TaskEventTypeEnum.STATUS_UPDATED, ids);
+		return updated;
+	}
+}
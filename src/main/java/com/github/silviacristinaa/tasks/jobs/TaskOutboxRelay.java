@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.tasks.jobs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+import com.github.silviacristinaa.tasks.outbox.TaskEventSink;
+import com.github.silviacristinaa.tasks.repositories.TaskEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * Publishes outbox events to the {@link TaskEventSink} in batches of {@code tasks.outbox.relay.batch-size}, oldest
+ * first, and deletes each batch once the sink accepts it. Only one instance relays at a time, and a batch that
+ * fails stops the run, so no event overtakes an earlier one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskOutboxRelay {
+
+	private static final String LOCK_NAME = "taskOutboxRelay";
+	private static final String PUBLISHED_METRIC = "tasks.outbox.published";
+	private static final String FAILURES_METRIC = "tasks.outbox.failures";
+
+	private final TaskEventRepository taskEventRepository;
+	private final TaskEventSink taskEventSink;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Counter published;
+	private final Counter failures;
+
+	public TaskOutboxRelay(TaskEventRepository taskEventRepository, TaskEventSink taskEventSink,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${tasks.outbox.relay.batch-size:500}") int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("tasks.outbox.relay.batch-size must be positive");
+		}
+		this.taskEventRepository = taskEventRepository;
+		this.taskEventSink = taskEventSink;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.published = Counter.builder(PUBLISHED_METRIC)
+				.description("Task events published by the outbox relay")
+				.register(meterRegistry);
+		this.failures = Counter.builder(FAILURES_METRIC)
+				.description("Outbox batches the sink rejected")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${tasks.outbox.relay.interval:PT1S}")
+	@SchedulerLock(name = LOCK_NAME, lockAtMostFor = "${tasks.outbox.relay.lock-at-most-for:1m}")
+	public void relay() {
+		try {
+			publishPending();
+		} catch (RuntimeException ex) {
+			failures.increment();
+			log.warn("Task events could not be published, retrying on the next run", ex);
+		}
+	}
+
+	int publishPending() {
+		int total = 0;
+		int count;
+		do {
+			count = transactionTemplate.execute(status -> publishBatch());
+			total += count;
+		} while (count == batchSize);
+		return total;
+	}
+
+	private int publishBatch() {
+		List<TaskEvent> events = taskEventRepository.findOldest(PageRequest.of(0, batchSize));
+		if (events.isEmpty()) {
+			return 0;
+		}
+		try {
+			taskEventSink.publish(events);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while publishing task events", ex);
+		}
+		taskEventRepository.deleteAllByIdInBatch(events.stream().map(TaskEvent::getId).toList());
+		published.increment(events.size());
+		return events.size();
+	}
+}
@@ -0,0 +1,34 @@
+package com.github.silviacristinaa.tasks.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+
+/**
+ * Plain field-by-field conversions between {@link Task} and its DTOs, used instead of ModelMapper's reflective
+ * mapping on the list endpoints.
+ */
+@Component
+public class TaskMapper {
+
+	public TaskResponseDto toResponseDto(Task task) {
+		return new TaskResponseDto(task.getId(), task.getTitle(), task.getDescription(), task.getStartDate(),
+				task.getEndDate(), task.getPriority(), task.getStatus(), task.getEmployeeId(),
+				task.getVersion());
+	}
+
+	public TaskResponseDto toResponseDto(TaskEvent event) {
+		return new TaskResponseDto(event.getTaskId(), event.getTitle(), event.getDescription(), event.getStartDate(),
+				event.getEndDate(), event.getPriority(), event.getStatus(), event.getEmployeeId(),
+				event.getTaskVersion());
+	}
+
+	public Task toEntity(TaskRequestDto taskRequestDto) {
+		return new Task(null, taskRequestDto.getTitle(), taskRequestDto.getDescription(),
+				taskRequestDto.getStartDate(), taskRequestDto.getEndDate(), taskRequestDto.getPriority(),
+				taskRequestDto.getStatus(), taskRequestDto.getEmployeeId(), null);
+	}
+}
@@ -0,0 +1,28 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-process sink: each event goes to {@code @EventListener} methods taking a {@link TaskEvent}, synchronously, on
+ * the relay thread.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "listener", matchIfMissing = true)
+public class ApplicationEventTaskEventSink implements TaskEventSink {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public void publish(List<TaskEvent> events) {
+		events.forEach(applicationEventPublisher::publishEvent);
+	}
+}
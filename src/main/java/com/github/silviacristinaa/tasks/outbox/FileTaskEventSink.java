@@ -0,0 +1,67 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+import com.github.silviacristinaa.tasks.mappers.TaskMapper;
+
+/**
+ * Appends each batch to {@code tasks.outbox.file.path} as NDJSON and forces it to disk before the relay deletes
+ * the batch from the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "file")
+public class FileTaskEventSink implements TaskEventSink {
+
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final ObjectMapper objectMapper;
+	private final TaskMapper taskMapper;
+	private final Path path;
+
+	public FileTaskEventSink(ObjectMapper objectMapper, TaskMapper taskMapper,
+			@Value("${tasks.outbox.file.path:task-events.ndjson}") Path path) throws IOException {
+		this.objectMapper = objectMapper;
+		this.taskMapper = taskMapper;
+		this.path = path;
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+	}
+
+	@Override
+	public void publish(List<TaskEvent> events) throws IOException {
+		StringBuilder lines = new StringBuilder();
+		for (TaskEvent event : events) {
+			Map<String, Object> line = new LinkedHashMap<>();
+			line.put("id", event.getId());
+			line.put("taskId", event.getTaskId());
+			line.put("type", event.getType());
+			line.put("createdAt", event.getCreatedAt());
+			line.put("task", taskMapper.toResponseDto(event));
+			lines.append(objectMapper.writeValueAsString(line)).append(LINE_SEPARATOR);
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND)) {
+			ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local stand-in for a partitioned broker topic: events are keyed by task id onto one of
+ * {@code tasks.outbox.broker.partitions} bounded queues, so one consumer per partition sees each task's events in
+ * order. A full partition blocks the relay for up to {@code offer-timeout}, then fails the batch to retry later.
+ * <p>
+ * Each partition has one consumer thread that hands its events, in order, to {@code @EventListener} methods taking
+ * a {@link TaskEvent}. An event is removed from its partition before the listeners run, so one they fail on is
+ * logged and not redelivered.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "broker")
+public class PartitionedQueueTaskEventSink implements TaskEventSink {
+
+	private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+	private static final String CONSUMER_THREAD_PREFIX = "task-events-partition-";
+
+	private final List<BlockingQueue<TaskEvent>> partitions = new ArrayList<>();
+	private final List<Thread> consumers = new ArrayList<>();
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final Duration offerTimeout;
+	private volatile boolean running;
+
+	public PartitionedQueueTaskEventSink(ApplicationEventPublisher applicationEventPublisher,
+			@Value("${tasks.outbox.broker.partitions:8}") int partitions,
+			@Value("${tasks.outbox.broker.capacity:10000}") int capacity,
+			@Value("${tasks.outbox.broker.offer-timeout:1s}") Duration offerTimeout) {
+		if (partitions < 1) {
+			throw new IllegalArgumentException("tasks.outbox.broker.partitions must be positive");
+		}
+		for (int partition = 0; partition < partitions; partition++) {
+			this.partitions.add(new LinkedBlockingQueue<>(capacity));
+		}
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.offerTimeout = offerTimeout;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void startConsumers() {
+		running = true;
+		for (int partition = 0; partition < partitions.size(); partition++) {
+			int consumed = partition;
+			Thread consumer = new Thread(() -> consume(consumed), CONSUMER_THREAD_PREFIX + partition);
+			consumer.setDaemon(true);
+			consumer.start();
+			consumers.add(consumer);
+		}
+	}
+
+	@PreDestroy
+	public synchronized void stopConsumers() throws InterruptedException {
+		running = false;
+		for (Thread consumer : consumers) {
+			consumer.interrupt();
+		}
+		for (Thread consumer : consumers) {
+			consumer.join(POLL_TIMEOUT.toMillis());
+		}
+		consumers.clear();
+	}
+
+	@Override
+	public void publish(List<TaskEvent> events) throws InterruptedException {
+		for (TaskEvent event : events) {
+			if (!partitions.get(partitionOf(event.getTaskId())).offer(event, offerTimeout.toMillis(),
+					TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("Partition " + partitionOf(event.getTaskId()) + " is full");
+			}
+		}
+	}
+
+	/**
+	 * @return the next event of the partition, or null if none arrives within {@code timeout}
+	 */
+	public TaskEvent poll(int partition, Duration timeout) throws InterruptedException {
+		return partitions.get(partition).poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	void consume(int partition) {
+		while (running) {
+			TaskEvent event;
+			try {
+				event = poll(partition, POLL_TIMEOUT);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (event == null) {
+				continue;
+			}
+			try {
+				applicationEventPublisher.publishEvent(event);
+			} catch (RuntimeException ex) {
+				log.warn("Task event {} of partition {} could not be handled", event.getId(), partition, ex);
+			}
+		}
+	}
+
+	public int partitionOf(Long taskId) {
+		return (int) Math.floorMod(taskId, (long) partitions.size());
+	}
+
+	public int getPartitions() {
+		return partitions.size();
+	}
+}
@@ -0,0 +1,19 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+
+/**
+ * Where the relay publishes outbox events, selected with {@code tasks.outbox.sink}. Batches arrive in id order,
+ * which is commit order for the events of one task. Delivery is at least once: a batch is published again if the
+ * relay fails before deleting it, so consumers should skip event ids they have already seen.
+ */
+public interface TaskEventSink {
+
+	/**
+	 * Returns only once every event of the batch is delivered; throwing leaves the whole batch in the outbox.
+	 */
+	void publish(List<TaskEvent> events) throws IOException, InterruptedException;
+}
@@ -0,0 +1,47 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import com.github.silviacristinaa.tasks.repositories.TaskEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records task changes in the {@code task_event} table, inside the transaction that makes them, so an event exists
+ * if and only if its change commits. {@link com.github.silviacristinaa.tasks.jobs.TaskOutboxRelay} publishes them.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskOutbox {
+
+	private final TaskEventRepository taskEventRepository;
+
+	/**
+	 * Records the current rows of {@code taskIds}. Call it after the write: the write already holds the rows'
+	 * locks when the events get their ids, and the copied version is the one the change commits with.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(TaskEventTypeEnum type, Collection<Long> taskIds) {
+		if (!taskIds.isEmpty()) {
+			taskEventRepository.insertFromTasks(taskIds, type.name(), LocalDateTime.now());
+		}
+	}
+
+	/**
+	 * Records a deleted task from the state it was read in, after the DELETE so the row lock is already held.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendDeleted(TaskResponseDto task) {
+		taskEventRepository.save(new TaskEvent(null, task.getId(), TaskEventTypeEnum.DELETED, task.getTitle(),
+				task.getDescription(), task.getStartDate(), task.getEndDate(), task.getPriority(), task.getStatus(),
+				task.getEmployeeId(), task.getVersion(), LocalDateTime.now()));
+	}
+}
@@ -0,0 +1,12 @@
+package com.github.silviacristinaa.tasks.repositories;
+
+/**
+ * One row of a {@code GROUP BY} count over tasks, read as a Spring Data projection of the {@code bucket} and
+ * {@code total} aliases.
+ */
+public interface TaskCount<K> {
+
+	K getBucket();
+
+	Long getTotal();
+}
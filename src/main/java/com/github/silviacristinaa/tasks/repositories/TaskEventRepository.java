@@ -0,0 +1,36 @@
+package com.github.silviacristinaa.tasks.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+
+import jakarta.persistence.QueryHint;
+
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+
+	@Query("SELECT e FROM TaskEvent e ORDER BY e.id")
+	List<TaskEvent> findOldest(Pageable pageable);
+
+	/*
+	 * Copies the tasks' current rows, so it must run after the write it records; pending inserts are flushed first.
+	 * Only task_event is declared as touched, which leaves the Task cache regions alone.
+	 */
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task_event"))
+	@Query(value = "INSERT INTO task_event (task_id, type, title, description, start_date, end_date, priority, "
+			+ "status, employee_id, task_version, created_at) SELECT id, :type, title, description, start_date, "
+			+ "end_date, priority, status, employee_id, version, :createdAt FROM task WHERE id IN :taskIds ORDER BY id",
+			nativeQuery = true)
+	int insertFromTasks(@Param("taskIds") Collection<Long> taskIds, @Param("type") String type,
+			@Param("createdAt") LocalDateTime createdAt);
+}
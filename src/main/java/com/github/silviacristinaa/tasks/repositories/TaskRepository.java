@@ -1,33 +1,105 @@
 package com.github.silviacristinaa.tasks.repositories;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
 import com.github.silviacristinaa.tasks.entities.Task;
 import com.github.silviacristinaa.tasks.enums.PriorityEnum;
 import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.stats.TaskStatsKey;
 
-public interface TaskRepository extends JpaRepository<Task, Long>{
-	
-	@Query("SELECT t FROM Task t WHERE (:keyword is null or t.title LIKE %:keyword% or t.description LIKE %:keyword%)"
-			+ "and ((:initialDateStartDate is null or :finalDateStartDate is null) or t.startDate BETWEEN "
-			+ ":initialDateStartDate AND :finalDateStartDate) "
-			+ "and ((:initialDateEndDate is null or :finalDateEndDate is null) or t.endDate BETWEEN "
-			+ ":initialDateEndDate AND :finalDateEndDate) "
-			+ "and (:priority is null or t.priority = :priority)"
-			+ "and (:status is null or t.status = :status)"
-			+ "and (:employeeId is null or t.employeeId = :employeeId)")
-	List<Task> findByKeywordAndStartDateBetweenAndEndDateBetweenAndPriorityAndStatusAndEmployeeId(
-			@Param("keyword") String keyword,
-			@Param("initialDateStartDate") LocalDate initialDateStartDate,
-			@Param("finalDateStartDate") LocalDate finalDateStartDate, 
-			@Param("initialDateEndDate") LocalDate initialDateEndDate,
-			@Param("finalDateEndDate") LocalDate finalDateEndDate, 
-			@Param("priority") PriorityEnum priority,
-			@Param("status") StatusEnum status,
-			@Param("employeeId") Long employeeId);
-}
\ No newline at end of file
+import jakarta.persistence.QueryHint;
+
+/*
+ * Bulk updates bypass Hibernate's @Version handling, so each of them bumps the version itself. The single-row
+ * ones take the version sent in If-Match; a null version skips the check. They are native and declare
+ * SINGLE_ROW_SPACE, which nothing cached depends on, so Hibernate leaves the Task cache regions alone and the
+ * caller evicts the one task after commit (TaskEntityCache). Bulk statements evict the whole Task region.
+ */
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+	
+	String SINGLE_ROW_SPACE = "task_row";
+	
+	@Query("SELECT t.version FROM Task t WHERE t.id = :id")
+	Optional<Long> findVersionById(@Param("id") Long id);
+	
+	@Query("SELECT new com.github.silviacristinaa.tasks.stats.TaskStatsKey(t.status, t.priority, t.employeeId, "
+			+ "t.startDate, t.endDate) FROM Task t WHERE t.id = :id")
+	Optional<TaskStatsKey> findStatsKeyById(@Param("id") Long id);
+	
+	@Query("SELECT new com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto(t.id, t.title, t.description, "
+			+ "t.startDate, t.endDate, t.priority, t.status, t.employeeId, t.version) FROM Task t WHERE t.id = :id")
+	Optional<TaskResponseDto> findResponseById(@Param("id") Long id);
+	
+	@Query("SELECT t.status AS bucket, COUNT(t) AS total FROM Task t WHERE t.id IN :ids GROUP BY t.status")
+	List<TaskCount<StatusEnum>> countByStatusAndIdIn(@Param("ids") Collection<Long> ids);
+	
+	@Query("SELECT t.status AS bucket, COUNT(t) AS total FROM Task t GROUP BY t.status")
+	List<TaskCount<StatusEnum>> countByStatus();
+	
+	@Query("SELECT t.priority AS bucket, COUNT(t) AS total FROM Task t GROUP BY t.priority")
+	List<TaskCount<PriorityEnum>> countByPriority();
+	
+	@Query("SELECT t.employeeId AS bucket, COUNT(t) AS total FROM Task t GROUP BY t.employeeId")
+	List<TaskCount<Long>> countByEmployeeId();
+	
+	/*
+	 * Months are encoded as yyyyMM integers so both queries stay portable JPQL.
+	 */
+	@Query("SELECT YEAR(t.startDate) * 100 + MONTH(t.startDate) AS bucket, COUNT(t) AS total FROM Task t "
+			+ "GROUP BY YEAR(t.startDate) * 100 + MONTH(t.startDate)")
+	List<TaskCount<Integer>> countByStartMonth();
+	
+	@Query("SELECT YEAR(t.endDate) * 100 + MONTH(t.endDate) AS bucket, COUNT(t) AS total FROM Task t "
+			+ "GROUP BY YEAR(t.endDate) * 100 + MONTH(t.endDate)")
+	List<TaskCount<Integer>> countByEndMonth();
+	
+	@Modifying
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = SINGLE_ROW_SPACE))
+	@Query(value = "UPDATE task SET status = :#{#status.name()}, version = version + 1 "
+			+ "WHERE id = :id AND version = COALESCE(:version, version)", nativeQuery = true)
+	int updateStatusById(@Param("id") Long id, @Param("status") StatusEnum status, @Param("version") Long version);
+	
+	@Modifying
+	@Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id IN :ids")
+	int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") StatusEnum status);
+	
+	/*
+	 * SELECT ... ORDER BY ... LIMIT ... FOR UPDATE walks idx_task_status_end_date and stops after one chunk, so
+	 * each call only locks a bounded number of rows; the ids let the caller record an outbox event per task.
+	 */
+	@Query(value = "SELECT id FROM task WHERE status = 'IN_PROGRESS' AND end_date < :today "
+			+ "ORDER BY end_date LIMIT :limit FOR UPDATE", nativeQuery = true)
+	List<Long> findOverdueIdsForUpdate(@Param("today") LocalDate today, @Param("limit") int limit);
+	
+	/*
+	 * The query space limits cache invalidation to the task table.
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "task"))
+	@Query(value = "UPDATE task SET status = 'LATE', version = version + 1 WHERE id IN :ids", nativeQuery = true)
+	int markLateByIdIn(@Param("ids") Collection<Long> ids);
+	
+	@Modifying
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = SINGLE_ROW_SPACE))
+	@Query(value = "UPDATE task SET title = :#{#task.title}, description = :#{#task.description}, "
+			+ "start_date = :#{#task.startDate}, end_date = :#{#task.endDate}, priority = :#{#task.priority.name()}, "
+			+ "status = :#{#task.status?.name()}, employee_id = :#{#task.employeeId}, version = version + 1 "
+			+ "WHERE id = :#{#task.id} AND version = COALESCE(:version, version)", nativeQuery = true)
+	int updateById(@Param("task") Task task, @Param("version") Long version);
+	
+	@Modifying
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = SINGLE_ROW_SPACE))
+	@Query(value = "DELETE FROM task WHERE id = :id", nativeQuery = true)
+	int deleteTaskById(@Param("id") Long id);
+}
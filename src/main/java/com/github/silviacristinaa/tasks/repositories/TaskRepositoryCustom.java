@@ -0,0 +1,39 @@
+package com.github.silviacristinaa.tasks.repositories;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.entities.Task;
+
+/**
+ * Read-only list queries that select straight into {@link TaskResponseDto} through a constructor expression, so no
+ * managed {@link Task} entities (and no dirty-checking snapshots) are created.
+ */
+public interface TaskRepositoryCustom {
+
+	Page<TaskResponseDto> findResponsePage(Specification<Task> specification, Pageable pageable);
+
+	/**
+	 * Same as {@link #findResponsePage(Specification, Pageable)} with the rows and the count kept in the Hibernate
+	 * query cache. Only worth it for filter combinations that repeat often.
+	 */
+	Page<TaskResponseDto> findCachedResponsePage(Specification<Task> specification, Pageable pageable);
+
+	/**
+	 * Same as {@link #findResponsePage(Specification, Pageable)} but without the count query: fetches one extra row
+	 * to know whether there is a next slice.
+	 */
+	Slice<TaskResponseDto> findResponseSlice(Specification<Task> specification, Pageable pageable);
+
+	/**
+	 * Streams every matching row through a JDBC cursor reading {@code fetchSize} rows at a time. Must be consumed
+	 * and closed inside a transaction.
+	 */
+	Stream<TaskResponseDto> streamResponses(Specification<Task> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,117 @@
+package com.github.silviacristinaa.tasks.repositories;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.entities.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Page<TaskResponseDto> findResponsePage(Specification<Task> specification, Pageable pageable) {
+		return findResponsePage(specification, pageable, false);
+	}
+
+	@Override
+	public Page<TaskResponseDto> findCachedResponsePage(Specification<Task> specification, Pageable pageable) {
+		return findResponsePage(specification, pageable, true);
+	}
+
+	@Override
+	public Slice<TaskResponseDto> findResponseSlice(Specification<Task> specification, Pageable pageable) {
+		TypedQuery<TaskResponseDto> query = createResponseQuery(specification, pageable.getSort());
+		if (pageable.isUnpaged()) {
+			return new SliceImpl<>(query.getResultList(), pageable, false);
+		}
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize() + 1);
+
+		List<TaskResponseDto> content = query.getResultList();
+		boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	@Override
+	public Stream<TaskResponseDto> streamResponses(Specification<Task> specification, Sort sort, int fetchSize) {
+		return createResponseQuery(specification, sort)
+				.setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(AvailableHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+
+	private TypedQuery<TaskResponseDto> createResponseQuery(Specification<Task> specification, Sort sort) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TaskResponseDto> query = builder.createQuery(TaskResponseDto.class);
+		Root<Task> root = query.from(Task.class);
+
+		query.select(builder.construct(TaskResponseDto.class, root.get("id"), root.get("title"),
+				root.get("description"), root.get("startDate"), root.get("endDate"), root.get("priority"),
+				root.get("status"), root.get("employeeId"), root.get("version")));
+
+		Predicate predicate = specification.toPredicate(root, query, builder);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, builder));
+		}
+		return entityManager.createQuery(query);
+	}
+
+	private Page<TaskResponseDto> findResponsePage(Specification<Task> specification, Pageable pageable,
+			boolean cacheable) {
+		TypedQuery<TaskResponseDto> query = cacheable(createResponseQuery(specification, pageable.getSort()), cacheable);
+		if (pageable.isPaged()) {
+			query.setFirstResult((int) pageable.getOffset());
+			query.setMaxResults(pageable.getPageSize());
+		}
+		return PageableExecutionUtils.getPage(query.getResultList(), pageable, 
+				() -> count(specification, cacheable));
+	}
+
+	private long count(Specification<Task> specification, boolean cacheable) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = builder.createQuery(Long.class);
+		Root<Task> root = query.from(Task.class);
+
+		query.select(builder.count(root));
+		Predicate predicate = specification.toPredicate(root, query, builder);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		// specifications may add an ORDER BY (e.g. keyword relevance), which a count does not need
+		query.orderBy(Collections.emptyList());
+		return cacheable(entityManager.createQuery(query), cacheable).getSingleResult();
+	}
+
+	private static <T> TypedQuery<T> cacheable(TypedQuery<T> query, boolean cacheable) {
+		if (cacheable) {
+			query.setHint(AvailableHints.HINT_CACHEABLE, true);
+			query.setHint(AvailableHints.HINT_CACHE_REGION, Task.QUERY_CACHE_REGION);
+		}
+		return query;
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.silviacristinaa.tasks.repositories;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import com.github.silviacristinaa.tasks.configs.FullTextFunctionContributor;
+import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds the /tasks/filters query. Each specification only contributes a predicate when its filter is set, so
+ * the generated SQL contains plain, index-friendly conditions instead of "(:x is null or ...)".
+ */
+public final class TaskSpecifications {
+
+	private static final String ID = "id";
+	private static final String TITLE = "title";
+	private static final String DESCRIPTION = "description";
+	private static final String START_DATE = "startDate";
+	private static final String END_DATE = "endDate";
+	private static final String PRIORITY = "priority";
+	private static final String STATUS = "status";
+	private static final String EMPLOYEE_ID = "employeeId";
+	
+	private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+	/** InnoDB's default innodb_ft_min_token_size. */
+	private static final int FULL_TEXT_MIN_TOKEN_SIZE = 3;
+
+	private TaskSpecifications() {
+	}
+
+	public static Specification<Task> byFilters(String keyword, LocalDate initialDateStartDate,
+			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
+			PriorityEnum priority, StatusEnum status, Long employeeId) {
+		return Specification.where(hasKeyword(keyword))
+				.and(startDateBetween(initialDateStartDate, finalDateStartDate))
+				.and(endDateBetween(initialDateEndDate, finalDateEndDate))
+				.and(hasPriority(priority))
+				.and(hasStatus(status))
+				.and(hasEmployeeId(employeeId));
+	}
+
+	/**
+	 * Full-text search over title and description, ordered by relevance unless the caller sorts explicitly. Every
+	 * term is required and prefix-matched. Terms shorter than the full-text index token size are not in the index,
+	 * so each of them is required through a LIKE on title or description instead; keywords made only of such terms
+	 * fall back to a single LIKE on the whole keyword.
+	 */
+	public static Specification<Task> hasKeyword(String keyword) {
+		return (root, query, builder) -> {
+			if (!StringUtils.hasText(keyword)) {
+				return null;
+			}
+			StringJoiner terms = new StringJoiner(" ");
+			List<String> shortTerms = new ArrayList<>();
+			for (String term : keyword.replaceAll(BOOLEAN_MODE_OPERATORS, " ").trim().split("\\s+")) {
+				if (term.length() >= FULL_TEXT_MIN_TOKEN_SIZE) {
+					terms.add("+" + term + "*");
+				} else if (!term.isEmpty()) {
+					shortTerms.add(term);
+				}
+			}
+			if (terms.length() == 0) {
+				return contains(root, builder, keyword);
+			}
+			Expression<Double> relevance = builder.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+					root.get(TITLE), root.get(DESCRIPTION), builder.literal(terms.toString()));
+			query.orderBy(builder.desc(relevance));
+			List<Predicate> predicates = new ArrayList<>();
+			predicates.add(builder.greaterThan(relevance, 0.0));
+			for (String term : shortTerms) {
+				predicates.add(contains(root, builder, term));
+			}
+			return builder.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	public static Specification<Task> startDateBetween(LocalDate initialDate, LocalDate finalDate) {
+		return (root, query, builder) -> initialDate == null || finalDate == null ? null
+				: builder.between(root.<LocalDate>get(START_DATE), initialDate, finalDate);
+	}
+
+	public static Specification<Task> endDateBetween(LocalDate initialDate, LocalDate finalDate) {
+		return (root, query, builder) -> initialDate == null || finalDate == null ? null
+				: builder.between(root.<LocalDate>get(END_DATE), initialDate, finalDate);
+	}
+
+	public static Specification<Task> hasPriority(PriorityEnum priority) {
+		return (root, query, builder) -> priority == null ? null : builder.equal(root.get(PRIORITY), priority);
+	}
+
+	public static Specification<Task> hasStatus(StatusEnum status) {
+		return (root, query, builder) -> status == null ? null : builder.equal(root.get(STATUS), status);
+	}
+
+	public static Specification<Task> hasEmployeeId(Long employeeId) {
+		return (root, query, builder) -> employeeId == null ? null : builder.equal(root.get(EMPLOYEE_ID), employeeId);
+	}
+
+	/**
+	 * Seek predicate for keyset pagination ordered by (endDate, id): the expanded form of
+	 * "(endDate, id) > (:endDate, :id)", which Criteria cannot express as a row value.
+	 */
+	public static Specification<Task> endDateAndIdAfter(LocalDate endDate, Long id) {
+		return (root, query, builder) -> endDate == null || id == null ? null
+				: builder.or(builder.greaterThan(root.<LocalDate>get(END_DATE), endDate),
+						builder.and(builder.equal(root.get(END_DATE), endDate),
+								builder.greaterThan(root.<Long>get(ID), id)));
+	}
+
+	private static Predicate contains(Root<Task> root, CriteriaBuilder builder, String text) {
+		String pattern = "%" + text + "%";
+		return builder.or(builder.like(root.<String>get(TITLE), pattern),
+				builder.like(root.<String>get(DESCRIPTION), pattern));
+	}
+}
@@ -1,28 +1,42 @@
 package com.github.silviacristinaa.tasks.resources;
 
 import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusBatchRequestDto;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskBatchResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskCursorResponseDto;
 import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatusBatchResponseDto;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
 import com.github.silviacristinaa.tasks.enums.PriorityEnum;
 import com.github.silviacristinaa.tasks.enums.StatusEnum;
 import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
 import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
 import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
 import com.github.silviacristinaa.tasks.services.TaskService;
+import com.github.silviacristinaa.tasks.utils.ETags;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,20 +45,23 @@ import java.time.LocalDate;
 public class TaskResource {
 	
 	private static final String ID = "/{id}";
+	private static final MediaType CSV = new MediaType("text", "csv");
 	
 	private final TaskService taskService;
 
 	@GetMapping
 	@ApiOperation(value="Retorna todas as tarefas", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
-	public ResponseEntity<Page<TaskResponseDto>> findAll(Pageable pageable) {
-		return ResponseEntity.ok(taskService.findAll(pageable));
+	public ResponseEntity<Slice<TaskResponseDto>> findAll(
+			@RequestParam(name = "count", required = false, defaultValue = "true") boolean count,
+			Pageable pageable) {
+		return ResponseEntity.ok(count ? taskService.findAll(pageable) : taskService.findAllSlice(pageable));
 	}
 	
 	@GetMapping("/filters")
 	@ApiOperation(value= "Retorna as tarefas de acordo com os filtros opcionais", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
-	public ResponseEntity<Page<TaskResponseDto>> findByFilters(
+	public ResponseEntity<Slice<TaskResponseDto>> findByFilters(
 			@RequestParam(name = "keyword", required = false) String keyword,
 			@RequestParam(name = "initialDateStartDate", required = false)
 				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateStartDate,
@@ -57,16 +74,105 @@ public class TaskResource {
 			@RequestParam(name = "priority", required = false) PriorityEnum priority,
 			@RequestParam(name = "status", required = false) StatusEnum status,
 			@RequestParam(name = "employeeId", required = false) Long employeeId,
+			@RequestParam(name = "count", required = false, defaultValue = "true") boolean count,
 			Pageable pageable) throws BadRequestException {
+		if (!count) {
+			return ResponseEntity.ok(taskService.findByFiltersSlice(keyword, initialDateStartDate, finalDateStartDate, 
+					initialDateEndDate, finalDateEndDate, priority, status, employeeId, pageable));
+		}
 		return ResponseEntity.ok(taskService.findByFilters(keyword, initialDateStartDate, finalDateStartDate, 
 				initialDateEndDate, finalDateEndDate, priority, status, employeeId, pageable));
 	}
 
+	@GetMapping("/employees/{employeeId}")
+	@ApiOperation(value= "Retorna as tarefas de um funcionário", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<Page<TaskResponseDto>> findByEmployee(@PathVariable Long employeeId,
+			@RequestParam(name = "status", required = false) StatusEnum status, Pageable pageable) {
+		return ResponseEntity.ok(taskService.findByEmployee(employeeId, status, pageable));
+	}
+	
+	@GetMapping("/cursor")
+	@ApiOperation(value="Retorna todas as tarefas paginadas por cursor", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<TaskCursorResponseDto> findAllByCursor(
+			@RequestParam(name = "token", required = false) String token,
+			@RequestParam(name = "size", required = false, defaultValue = "20") int size) throws BadRequestException {
+		return ResponseEntity.ok(taskService.findAllByCursor(token, size));
+	}
+	
+	@GetMapping("/filters/cursor")
+	@ApiOperation(value= "Retorna as tarefas de acordo com os filtros opcionais paginadas por cursor", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<TaskCursorResponseDto> findByFiltersCursor(
+			@RequestParam(name = "keyword", required = false) String keyword,
+			@RequestParam(name = "initialDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateStartDate,
+			@RequestParam(name = "finalDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateStartDate,
+			@RequestParam(name = "initialDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateEndDate,
+			@RequestParam(name = "finalDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateEndDate,
+			@RequestParam(name = "priority", required = false) PriorityEnum priority,
+			@RequestParam(name = "status", required = false) StatusEnum status,
+			@RequestParam(name = "employeeId", required = false) Long employeeId,
+			@RequestParam(name = "token", required = false) String token,
+			@RequestParam(name = "size", required = false, defaultValue = "20") int size) throws BadRequestException {
+		return ResponseEntity.ok(taskService.findByFiltersCursor(keyword, initialDateStartDate, finalDateStartDate, 
+				initialDateEndDate, finalDateEndDate, priority, status, employeeId, token, size));
+	}
+
+	@GetMapping("/export")
+	@ApiOperation(value= "Exporta as tarefas de acordo com os filtros opcionais em NDJSON ou CSV", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestParam(name = "keyword", required = false) String keyword,
+			@RequestParam(name = "initialDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateStartDate,
+			@RequestParam(name = "finalDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateStartDate,
+			@RequestParam(name = "initialDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateEndDate,
+			@RequestParam(name = "finalDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateEndDate,
+			@RequestParam(name = "priority", required = false) PriorityEnum priority,
+			@RequestParam(name = "status", required = false) StatusEnum status,
+			@RequestParam(name = "employeeId", required = false) Long employeeId,
+			@RequestParam(name = "format", required = false, defaultValue = "NDJSON") ExportFormatEnum format) 
+					throws BadRequestException {
+		StreamingResponseBody body = taskService.exportByFilters(keyword, initialDateStartDate, finalDateStartDate, 
+				initialDateEndDate, finalDateEndDate, priority, status, employeeId, format);
+		
+		boolean csv = format == ExportFormatEnum.CSV;
+		return ResponseEntity.ok()
+				.contentType(csv ? CSV : MediaType.APPLICATION_NDJSON)
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename(csv ? "tasks.csv" : "tasks.ndjson").build().toString())
+				.body(body);
+	}
+
+	@GetMapping("/stats")
+	@ApiOperation(value="Retorna a contagem de tarefas por status, prioridade e funcionário", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<TaskStatsResponseDto> findStats(
+			@RequestParam(name = "dateBuckets", required = false, defaultValue = "false") boolean dateBuckets) {
+		return ResponseEntity.ok(taskService.findStats(dateBuckets));
+	}
+
 	@GetMapping(value = ID)
 	@ApiOperation(value="Retorna uma tarefa única", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
-	public ResponseEntity<TaskResponseDto> findById(@PathVariable Long id) throws NotFoundException {
-		return ResponseEntity.ok(taskService.findOneTaskById(id));
+	public ResponseEntity<TaskResponseDto> findById(@PathVariable Long id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws NotFoundException {
+		if (ifNoneMatch != null) {
+			String eTag = ETags.toETag(taskService.findVersionById(id));
+			if (ETags.matchesAny(ifNoneMatch, eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+			}
+		}
+		TaskResponseDto taskResponseDto = taskService.findOneTaskById(id);
+		return ResponseEntity.ok().eTag(ETags.toETag(taskResponseDto.getVersion())).body(taskResponseDto);
 	}
 
 	@PostMapping
@@ -78,19 +184,37 @@ public class TaskResource {
 		return ResponseEntity.created(uri).build();
 	}
 
+	@PostMapping("/batch")
+	@ApiOperation(value="Cria tarefas em lote", httpMethod = "POST")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<TaskBatchResponseDto> createBatch(@RequestBody List<TaskRequestDto> taskRequestDtos) throws BadRequestException {
+		return ResponseEntity.ok(taskService.createBatch(taskRequestDtos));
+	}
+
 	@PatchMapping(value = ID)
 	@ApiOperation(value="Atualiza o status de uma tarefa", httpMethod = "PATCH")
 	@ResponseStatus(value = HttpStatus.NO_CONTENT)
-	public ResponseEntity<Void> updateTaskStatus(@PathVariable Long id, @RequestBody TaskStatusRequestDto taskStatusRequestDto) throws NotFoundException {
-		taskService.updateTaskStatus(id, taskStatusRequestDto);
+	public ResponseEntity<Void> updateTaskStatus(@PathVariable Long id, @RequestBody TaskStatusRequestDto taskStatusRequestDto,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) 
+			throws NotFoundException, PreconditionFailedException {
+		taskService.updateTaskStatus(id, taskStatusRequestDto, ETags.parseVersion(ifMatch));
 		return ResponseEntity.noContent().build();
 	}
 	
+	@PatchMapping("/status")
+	@ApiOperation(value="Atualiza o status de várias tarefas", httpMethod = "PATCH")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<TaskStatusBatchResponseDto> updateTaskStatuses(@RequestBody @Valid TaskStatusBatchRequestDto taskStatusBatchRequestDto) {
+		return ResponseEntity.ok(taskService.updateTaskStatuses(taskStatusBatchRequestDto));
+	}
+	
 	@PutMapping(value = ID)
 	@ApiOperation(value="Atualiza uma tarefa", httpMethod = "PUT")
 	@ResponseStatus(value = HttpStatus.NO_CONTENT)
-	public ResponseEntity<Void> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDto taskRequestDto) throws NotFoundException, InternalServerErrorException, BadRequestException {
-		taskService.update(id, taskRequestDto);
+	public ResponseEntity<Void> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDto taskRequestDto,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) 
+			throws NotFoundException, InternalServerErrorException, BadRequestException, PreconditionFailedException {
+		taskService.update(id, taskRequestDto, ETags.parseVersion(ifMatch));
 		return ResponseEntity.noContent().build();
 	}
 
@@ -101,4 +225,4 @@ public class TaskResource {
 		taskService.delete(id);
 		return ResponseEntity.noContent().build();
 	}
-}
\ No newline at end of file
+}
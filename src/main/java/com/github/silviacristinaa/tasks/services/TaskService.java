@@ -1,35 +1,90 @@
 package com.github.silviacristinaa.tasks.services;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusBatchRequestDto;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskBatchResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskCursorResponseDto;
 import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatusBatchResponseDto;
 import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
 import com.github.silviacristinaa.tasks.enums.PriorityEnum;
 import com.github.silviacristinaa.tasks.enums.StatusEnum;
 import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
 import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
 import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
 
 public interface TaskService {
 	
 	Page<TaskResponseDto> findAll(Pageable pageable);
 	
+	Slice<TaskResponseDto> findAllSlice(Pageable pageable);
+	
 	Page<TaskResponseDto> findByFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate, 
 			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId, 
 			Pageable pageable) throws BadRequestException;
 	
+	Slice<TaskResponseDto> findByFiltersSlice(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate, 
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId, 
+			Pageable pageable) throws BadRequestException;
+	
+	/**
+	 * Tasks of one employee ordered by end date, served from {@code EmployeeTasksCache}. Sorting in {@code pageable}
+	 * is ignored.
+	 */
+	Page<TaskResponseDto> findByEmployee(Long employeeId, StatusEnum status, Pageable pageable);
+	
+	TaskCursorResponseDto findAllByCursor(String token, int size) throws BadRequestException;
+	
+	TaskCursorResponseDto findByFiltersCursor(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate, 
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId, 
+			String token, int size) throws BadRequestException;
+	
+	/**
+	 * Validates the filters eagerly and returns a body that streams every matching task inside its own read-only
+	 * transaction.
+	 */
+	StreamingResponseBody exportByFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate, 
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId, 
+			ExportFormatEnum format) throws BadRequestException;
+	
 	TaskResponseDto findOneTaskById(Long id) throws NotFoundException;
 	
+	Long findVersionById(Long id) throws NotFoundException;
+	
 	Task create(TaskRequestDto taskRequestDto) throws BadRequestException, NotFoundException, InternalServerErrorException;  
 	
-	void updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto) throws NotFoundException; 
+	TaskBatchResponseDto createBatch(List<TaskRequestDto> taskRequestDtos) throws BadRequestException;
 	
-	void update(Long id, TaskRequestDto taskRequestDto) throws NotFoundException, BadRequestException, InternalServerErrorException;
+	/**
+	 * A non-null {@code version} must match the stored one, otherwise a {@link PreconditionFailedException} is thrown.
+	 */
+	void updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto, Long version) 
+			throws NotFoundException, PreconditionFailedException; 
+	
+	TaskStatusBatchResponseDto updateTaskStatuses(TaskStatusBatchRequestDto taskStatusBatchRequestDto);
+	
+	/**
+	 * A non-null {@code version} must match the stored one, otherwise a {@link PreconditionFailedException} is thrown.
+	 */
+	void update(Long id, TaskRequestDto taskRequestDto, Long version) 
+			throws NotFoundException, BadRequestException, InternalServerErrorException, PreconditionFailedException;
 	
 	void delete(Long id) throws NotFoundException;
+	
+	/**
+	 * Served from the in-memory aggregate; month buckets are only included when {@code dateBuckets} is set.
+	 */
+	TaskStatsResponseDto findStats(boolean dateBuckets);
 }
\ No newline at end of file
@@ -1,171 +1,517 @@
 package com.github.silviacristinaa.tasks.services.impl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.github.silviacristinaa.tasks.clients.EmployeesClient;
+import com.github.silviacristinaa.tasks.caches.EmployeeTasksCache;
+import com.github.silviacristinaa.tasks.caches.TaskEntityCache;
+import com.github.silviacristinaa.tasks.clients.EmployeesCache;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusBatchRequestDto;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
 import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskBatchItemResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskBatchResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskCursorResponseDto;
 import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatusBatchResponseDto;
 import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.enums.BatchItemStatusEnum;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
 import com.github.silviacristinaa.tasks.enums.PriorityEnum;
 import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
 import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
 import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
 import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+import com.github.silviacristinaa.tasks.exports.TaskExportWriter;
+import com.github.silviacristinaa.tasks.mappers.TaskMapper;
+import com.github.silviacristinaa.tasks.outbox.TaskOutbox;
+import com.github.silviacristinaa.tasks.repositories.TaskCount;
 import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.repositories.TaskSpecifications;
 import com.github.silviacristinaa.tasks.services.TaskService;
+import com.github.silviacristinaa.tasks.stats.TaskStatistics;
+import com.github.silviacristinaa.tasks.stats.TaskStatsKey;
+import com.github.silviacristinaa.tasks.utils.TaskDates;
 
-import feign.FeignException.FeignClientException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Every public method is timed as {@code tasks.service} tagged with class, method and exception. For
+ * exportByFilters that only covers preparing the stream; the rows are written after it returns.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed(value = "tasks.service", histogram = true)
 public class TaskServiceImpl implements TaskService {
 
-	private static final String MSG_ERROR_FILLING_DATES = "to perform the search by dates, it is mandatory to fill the initial"
-			+ " date and final date";
-	private static final String MSG_ERROR_DATE_GRATER_THAN = "End date must be greater than start date";
 	private static final String TASK_NOT_FOUND = "Task %s not found";
+	private static final String TASK_VERSION_MISMATCH = "Task %s is no longer at version %s";
 	private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
 	private static final String EMPLOYEE_IS_INACTIVE = "Employee %s is inactive";
 	private static final String PROBLEM_EMPLOYEES_EXTERNAL_API = "There was a problem consuming the employees external api";
+	private static final String MSG_ERROR_INVALID_TOKEN = "Invalid continuation token";
+	private static final String MSG_ERROR_CURSOR_SIZE = "Size must be between 1 and %s";
+	private static final String MSG_ERROR_BATCH_SIZE = "Batch must contain between 1 and %s tasks";
+	private static final String MSG_ERROR_FIELD = "%s %s";
+	
+	private static final int MAX_CURSOR_SIZE = 1000;
+	private static final int MAX_BATCH_SIZE = 5000;
+	private static final String CURSOR_SEPARATOR = ":";
+	private static final Sort CURSOR_SORT = Sort.by(Sort.Order.asc("endDate"), Sort.Order.asc("id"));
+	private static final Sort EXPORT_SORT = Sort.by("id");
 
 	private final TaskRepository taskRepository;
-	private final ModelMapper modelMapper;
-	private final EmployeesClient employeesClient;
+	private final TaskMapper taskMapper;
+	private final EmployeesCache employeesCache;
+	private final Validator validator;
+	private final TaskExportWriter taskExportWriter;
+	private final PlatformTransactionManager transactionManager;
+	private final TaskStatistics taskStatistics;
+	private final EmployeeTasksCache employeeTasksCache;
+	private final TaskOutbox taskOutbox;
+	private final TaskEntityCache taskEntityCache;
+	
+	@Value("${tasks.export.fetch-size:1000}")
+	private int exportFetchSize;
 
 	@Override
+	@Transactional(readOnly = true)
 	public Page<TaskResponseDto> findAll(Pageable pageable) {
-		List<TaskResponseDto> response = 
-				taskRepository.findAll().stream().map(task -> modelMapper.map(task, TaskResponseDto.class)).collect(Collectors.toList());
-		
-		final int start = (int)pageable.getOffset();
-		final int end = Math.min((start + pageable.getPageSize()), response.size());
-		
-		Page<TaskResponseDto> page = new PageImpl<>(response.subList(start, end), pageable, response.size());
-		return page;
+		return taskRepository.findResponsePage(Specification.where(null), pageable);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<TaskResponseDto> findAllSlice(Pageable pageable) {
+		return taskRepository.findResponseSlice(Specification.where(null), pageable);
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public Page<TaskResponseDto> findByFilters(String keyword, LocalDate initialDateStartDate,
 			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
 			PriorityEnum priority, StatusEnum status, Long employeeId, Pageable pageable) throws BadRequestException {
 
-		validateDates(initialDateStartDate, finalDateStartDate);
-		validateDates(initialDateEndDate, finalDateEndDate);
+		TaskDates.validate(initialDateStartDate, finalDateStartDate);
+		TaskDates.validate(initialDateEndDate, finalDateEndDate);
 	
-		List<TaskResponseDto> response = taskRepository
-				.findByKeywordAndStartDateBetweenAndEndDateBetweenAndPriorityAndStatusAndEmployeeId(keyword, initialDateStartDate, 
-						finalDateStartDate, initialDateEndDate, finalDateEndDate, priority, status, employeeId)
-				.stream().map(task -> modelMapper.map(task, TaskResponseDto.class))
-				.collect(Collectors.toList());
+		Specification<Task> specification = TaskSpecifications.byFilters(keyword, initialDateStartDate, 
+				finalDateStartDate, initialDateEndDate, finalDateEndDate, priority, status, employeeId);
+		// dashboards repeat the same status/priority/employee combinations; keyword and date searches rarely repeat
+		if (!StringUtils.hasText(keyword) && initialDateStartDate == null && initialDateEndDate == null) {
+			return taskRepository.findCachedResponsePage(specification, pageable);
+		}
+		return taskRepository.findResponsePage(specification, pageable);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<TaskResponseDto> findByFiltersSlice(String keyword, LocalDate initialDateStartDate,
+			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
+			PriorityEnum priority, StatusEnum status, Long employeeId, Pageable pageable) throws BadRequestException {
+
+		TaskDates.validate(initialDateStartDate, finalDateStartDate);
+		TaskDates.validate(initialDateEndDate, finalDateEndDate);
+	
+		return taskRepository.findResponseSlice(TaskSpecifications.byFilters(keyword, initialDateStartDate, 
+				finalDateStartDate, initialDateEndDate, finalDateEndDate, priority, status, employeeId), pageable);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public TaskCursorResponseDto findAllByCursor(String token, int size) throws BadRequestException {
+		return findByCursor(Specification.where(null), token, size);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public TaskCursorResponseDto findByFiltersCursor(String keyword, LocalDate initialDateStartDate,
+			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
+			PriorityEnum priority, StatusEnum status, Long employeeId, String token, int size) throws BadRequestException {
+
+		TaskDates.validate(initialDateStartDate, finalDateStartDate);
+		TaskDates.validate(initialDateEndDate, finalDateEndDate);
 		
-		final int start = (int)pageable.getOffset();
-		final int end = Math.min((start + pageable.getPageSize()), response.size());
+		return findByCursor(TaskSpecifications.byFilters(keyword, initialDateStartDate, finalDateStartDate, 
+				initialDateEndDate, finalDateEndDate, priority, status, employeeId), token, size);
+	}
+
+	@Override
+	public StreamingResponseBody exportByFilters(String keyword, LocalDate initialDateStartDate,
+			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
+			PriorityEnum priority, StatusEnum status, Long employeeId, ExportFormatEnum format) throws BadRequestException {
 		
-		Page<TaskResponseDto> page = new PageImpl<>(response.subList(start, end), pageable, response.size());
-		return page;
+		TaskDates.validate(initialDateStartDate, finalDateStartDate);
+		TaskDates.validate(initialDateEndDate, finalDateEndDate);
+		
+		Specification<Task> specification = TaskSpecifications.byFilters(keyword, initialDateStartDate, 
+				finalDateStartDate, initialDateEndDate, finalDateEndDate, priority, status, employeeId);
+		
+		return outputStream -> {
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			transactionTemplate.setReadOnly(true);
+			transactionTemplate.executeWithoutResult(transactionStatus -> {
+				try (Stream<TaskResponseDto> tasks = taskRepository.streamResponses(specification, EXPORT_SORT, 
+						exportFetchSize)) {
+					taskExportWriter.write(tasks, format, outputStream);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		};
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public TaskResponseDto findOneTaskById(Long id) throws NotFoundException {
 		Task task = findById(id);
-		return modelMapper.map(task, TaskResponseDto.class);
+		return taskMapper.toResponseDto(task);
+	}
+	
+	/*
+	 * Not transactional on purpose: a cache hit should not borrow a connection.
+	 */
+	@Override
+	public Page<TaskResponseDto> findByEmployee(Long employeeId, StatusEnum status, Pageable pageable) {
+		Optional<List<TaskResponseDto>> cached = employeeTasksCache.findByEmployeeId(employeeId);
+		if (cached.isEmpty()) {
+			return findUncachedByEmployee(employeeId, status, pageable);
+		}
+		List<TaskResponseDto> tasks = cached.get();
+		if (status != null) {
+			tasks = tasks.stream().filter(task -> task.getStatus() == status).toList();
+		}
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(tasks);
+		}
+		int from = (int) Math.min(pageable.getOffset(), tasks.size());
+		int to = Math.min(from + pageable.getPageSize(), tasks.size());
+		return new PageImpl<>(tasks.subList(from, to), pageable, tasks.size());
+	}
+	
+	private Page<TaskResponseDto> findUncachedByEmployee(Long employeeId, StatusEnum status, Pageable pageable) {
+		Specification<Task> specification = TaskSpecifications.hasEmployeeId(employeeId)
+				.and(TaskSpecifications.hasStatus(status));
+		Pageable sortedPageable = pageable.isPaged() 
+				? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), EmployeeTasksCache.SORT) : pageable;
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate.execute(transactionStatus -> 
+				taskRepository.findResponsePage(specification, sortedPageable));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Long findVersionById(Long id) throws NotFoundException {
+		return taskRepository.findVersionById(id)
+				.orElseThrow(() -> new NotFoundException(String.format(TASK_NOT_FOUND, id)));
 	}
 
 	@Override
 	@Transactional
 	public Task create(TaskRequestDto taskRequestDto)
 			throws BadRequestException, NotFoundException, InternalServerErrorException {
-		validateDates(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
-		verifyEmployee(taskRequestDto);
+		TaskDates.validate(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
+		verifyEmployee(taskRequestDto.getEmployeeId());
 
-		Task task = modelMapper.map(taskRequestDto, Task.class);
-		task.setId(null);
-		return taskRepository.save(task);
+		Task task = taskRepository.save(taskMapper.toEntity(taskRequestDto));
+		taskOutbox.append(TaskEventTypeEnum.CREATED, List.of(task.getId()));
+		taskStatistics.add(TaskStatsKey.of(task));
+		employeeTasksCache.evictAfterCommit(List.of(task.getEmployeeId()));
+		return task;
+	}
+	
+	@Override
+	public TaskBatchResponseDto createBatch(List<TaskRequestDto> taskRequestDtos) throws BadRequestException {
+		if (taskRequestDtos == null || taskRequestDtos.isEmpty() || taskRequestDtos.size() > MAX_BATCH_SIZE) {
+			throw new BadRequestException(String.format(MSG_ERROR_BATCH_SIZE, MAX_BATCH_SIZE));
+		}
+		
+		List<TaskBatchItemResponseDto> items = new ArrayList<>(taskRequestDtos.size());
+		Set<Long> employeeIds = new HashSet<>();
+		for (int index = 0; index < taskRequestDtos.size(); index++) {
+			TaskBatchItemResponseDto item = new TaskBatchItemResponseDto(index, BatchItemStatusEnum.CREATED, null,
+					validateBatchItem(taskRequestDtos.get(index)));
+			items.add(item);
+			if (item.getErrors().isEmpty()) {
+				employeeIds.add(taskRequestDtos.get(index).getEmployeeId());
+			}
+		}
+		
+		Map<Long, String> employeeErrors = findEmployeeErrors(employeeIds);
+		List<Task> tasks = new ArrayList<>();
+		List<TaskBatchItemResponseDto> createdItems = new ArrayList<>();
+		for (int index = 0; index < taskRequestDtos.size(); index++) {
+			TaskBatchItemResponseDto item = items.get(index);
+			if (item.getErrors().isEmpty()) {
+				String employeeError = employeeErrors.get(taskRequestDtos.get(index).getEmployeeId());
+				if (!employeeError.isEmpty()) {
+					item.getErrors().add(employeeError);
+				}
+			}
+			if (!item.getErrors().isEmpty()) {
+				item.setStatus(BatchItemStatusEnum.FAILED);
+				continue;
+			}
+			tasks.add(taskMapper.toEntity(taskRequestDtos.get(index)));
+			createdItems.add(item);
+		}
+		
+		// employees are checked before the transaction so a connection is only held for the inserts
+		if (!tasks.isEmpty()) {
+			List<Task> savedTasks = new TransactionTemplate(transactionManager).execute(status -> saveBatch(tasks));
+			for (int index = 0; index < savedTasks.size(); index++) {
+				createdItems.get(index).setId(savedTasks.get(index).getId());
+			}
+		}
+		return new TaskBatchResponseDto(createdItems.size(), items.size() - createdItems.size(), items);
+	}
+	
+	private List<Task> saveBatch(List<Task> tasks) {
+		List<Task> savedTasks = taskRepository.saveAll(tasks);
+		Set<Long> employeeIds = new HashSet<>();
+		for (Task task : savedTasks) {
+			taskStatistics.add(TaskStatsKey.of(task));
+			employeeIds.add(task.getEmployeeId());
+		}
+		taskOutbox.append(TaskEventTypeEnum.CREATED, savedTasks.stream().map(Task::getId).toList());
+		employeeTasksCache.evictAfterCommit(employeeIds);
+		return savedTasks;
 	}
 	
 	@Override
 	@Transactional
-	public void updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto) throws NotFoundException {
-		Task task = findById(id);
+	public void updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto, Long version) 
+			throws NotFoundException, PreconditionFailedException {
+		TaskStatsKey previous = findStatsKey(id);
+		if (taskRepository.updateStatusById(id, taskStatusRequestDto.getStatus(), version) == 0) {
+			throwNotUpdated(id, version);
+		}
+		taskOutbox.append(TaskEventTypeEnum.STATUS_UPDATED, List.of(id));
 		
-		task.setStatus(taskStatusRequestDto.getStatus());
-		task.setId(id);
-		taskRepository.save(task);
+		taskStatistics.replace(previous, previous.withStatus(taskStatusRequestDto.getStatus()));
+		taskEntityCache.evictAfterCommit(id);
+		employeeTasksCache.evictAfterCommit(List.of(previous.getEmployeeId()));
+	}
+	
+	@Override
+	@Transactional
+	public TaskStatusBatchResponseDto updateTaskStatuses(TaskStatusBatchRequestDto taskStatusBatchRequestDto) {
+		Set<Long> ids = new HashSet<>(taskStatusBatchRequestDto.getIds());
+		List<TaskCount<StatusEnum>> previous = taskRepository.countByStatusAndIdIn(ids);
+		int updated = taskRepository.updateStatusByIdIn(ids, taskStatusBatchRequestDto.getStatus());
+		taskOutbox.append(TaskEventTypeEnum.STATUS_UPDATED, ids);
+		previous.forEach(count -> taskStatistics.moveStatus(count.getBucket(), taskStatusBatchRequestDto.getStatus(), 
+				count.getTotal()));
+		employeeTasksCache.evictAllAfterCommit();
+		return new TaskStatusBatchResponseDto(ids.size(), updated);
 	}
 
 	@Override
 	@Transactional
-	public void update(Long id, TaskRequestDto taskRequestDto)
-			throws NotFoundException, BadRequestException, InternalServerErrorException {
-		findById(id);
-		validateDates(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
-		verifyEmployee(taskRequestDto);
+	public void update(Long id, TaskRequestDto taskRequestDto, Long version)
+			throws NotFoundException, BadRequestException, InternalServerErrorException, PreconditionFailedException {
+		TaskDates.validate(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
+		verifyEmployee(taskRequestDto.getEmployeeId());
 
-		Task task = modelMapper.map(taskRequestDto, Task.class);
+		TaskStatsKey previous = findStatsKey(id);
+		Task task = taskMapper.toEntity(taskRequestDto);
 		task.setId(id);
-		taskRepository.save(task);
+		if (taskRepository.updateById(task, version) == 0) {
+			throwNotUpdated(id, version);
+		}
+		taskOutbox.append(TaskEventTypeEnum.UPDATED, List.of(id));
+		
+		taskStatistics.replace(previous, TaskStatsKey.of(task));
+		taskEntityCache.evictAfterCommit(id);
+		employeeTasksCache.evictAfterCommit(List.of(previous.getEmployeeId(), task.getEmployeeId()));
 	}
 
 	@Override
 	@Transactional
 	public void delete(Long id) throws NotFoundException {
-		findById(id);
-		taskRepository.deleteById(id);
+		TaskResponseDto task = taskRepository.findResponseById(id)
+				.orElseThrow(() -> new NotFoundException(String.format(TASK_NOT_FOUND, id)));
+		if (taskRepository.deleteTaskById(id) == 0) {
+			throw new NotFoundException(String.format(TASK_NOT_FOUND, id));
+		}
+		taskOutbox.appendDeleted(task);
+		
+		taskStatistics.remove(TaskStatsKey.of(task));
+		taskEntityCache.evictAfterCommit(id);
+		employeeTasksCache.evictAfterCommit(List.of(task.getEmployeeId()));
+	}
+	
+	@Override
+	public TaskStatsResponseDto findStats(boolean dateBuckets) {
+		return taskStatistics.snapshot(dateBuckets);
 	}
 
 	private Task findById(Long id) throws NotFoundException {
 		return taskRepository.findById(id).orElseThrow(() -> new NotFoundException(String.format(TASK_NOT_FOUND, id)));
 	}
+	
+	/*
+	 * The statistics need the counted columns as they were before a write; this primary-key lookup is the price
+	 * of keeping them current without rescanning the table.
+	 */
+	private TaskStatsKey findStatsKey(Long id) throws NotFoundException {
+		return taskRepository.findStatsKeyById(id)
+				.orElseThrow(() -> new NotFoundException(String.format(TASK_NOT_FOUND, id)));
+	}
+	
+	/*
+	 * A conditional update that touched no rows is only a conflict if the task still exists; the extra lookup runs
+	 * on that failure path alone.
+	 */
+	private void throwNotUpdated(Long id, Long version) throws NotFoundException, PreconditionFailedException {
+		if (version != null && taskRepository.existsById(id)) {
+			throw new PreconditionFailedException(String.format(TASK_VERSION_MISMATCH, id, version));
+		}
+		throw new NotFoundException(String.format(TASK_NOT_FOUND, id));
+	}
 
-	private void validateDates(LocalDate startDate, LocalDate endDate) throws BadRequestException {
+	private TaskCursorResponseDto findByCursor(Specification<Task> specification, String token, int size)
+			throws BadRequestException {
 		
-		if (endDate == null && startDate == null) {
-			return;
+		if (size < 1 || size > MAX_CURSOR_SIZE) {
+			throw new BadRequestException(String.format(MSG_ERROR_CURSOR_SIZE, MAX_CURSOR_SIZE));
 		}
-		if ((startDate == null && endDate != null) || (startDate != null && endDate == null)) {
-			throw new BadRequestException(MSG_ERROR_FILLING_DATES);
+		if (token != null) {
+			specification = specification.and(decodeCursor(token));
 		}
-		if (endDate.isBefore(startDate)) {
-			throw new BadRequestException(MSG_ERROR_DATE_GRATER_THAN);
+		
+		Slice<TaskResponseDto> slice = taskRepository.findResponseSlice(specification, 
+				PageRequest.of(0, size, CURSOR_SORT));
+		List<TaskResponseDto> tasks = slice.getContent();
+		
+		String nextToken = null;
+		if (slice.hasNext()) {
+			TaskResponseDto last = tasks.get(tasks.size() - 1);
+			nextToken = encodeCursor(last.getEndDate(), last.getId());
 		}
+		return new TaskCursorResponseDto(tasks, nextToken);
+	}
+	
+	private String encodeCursor(LocalDate endDate, Long id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((endDate + CURSOR_SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+	}
+	
+	private Specification<Task> decodeCursor(String token) throws BadRequestException {
+		try {
+			String[] cursor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+					.split(CURSOR_SEPARATOR);
+			if (cursor.length != 2) {
+				throw new BadRequestException(MSG_ERROR_INVALID_TOKEN);
+			}
+			return TaskSpecifications.endDateAndIdAfter(LocalDate.parse(cursor[0]), Long.valueOf(cursor[1]));
+		} catch (IllegalArgumentException | DateTimeParseException ex) {
+			throw new BadRequestException(MSG_ERROR_INVALID_TOKEN);
+		}
+	}
+
+	private List<String> validateBatchItem(TaskRequestDto taskRequestDto) {
+		List<String> errors = new ArrayList<>();
+		if (taskRequestDto == null) {
+			errors.add(String.format(MSG_ERROR_FIELD, "task", "must not be null"));
+			return errors;
+		}
+		for (ConstraintViolation<TaskRequestDto> violation : validator.validate(taskRequestDto)) {
+			errors.add(String.format(MSG_ERROR_FIELD, violation.getPropertyPath(), violation.getMessage()));
+		}
+		if (errors.isEmpty()) {
+			try {
+				TaskDates.validate(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
+			} catch (BadRequestException ex) {
+				errors.add(ex.getMessage());
+			}
+		}
+		return errors;
+	}
+	
+	private Map<Long, String> findEmployeeErrors(Set<Long> employeeIds) {
+		Map<Long, Optional<EmployeeResponseDto>> employees;
+		try {
+			employees = employeesCache.findAllById(employeeIds);
+		} catch (Exception ex) {
+			log.error(PROBLEM_EMPLOYEES_EXTERNAL_API, ex);
+			employees = Map.of();
+		}
+		
+		Map<Long, String> employeeErrors = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			try {
+				if (!employees.containsKey(employeeId)) {
+					throw new InternalServerErrorException(PROBLEM_EMPLOYEES_EXTERNAL_API);
+				}
+				verifyEmployee(employeeId, employees.get(employeeId));
+				employeeErrors.put(employeeId, "");
+			} catch (NotFoundException | BadRequestException | InternalServerErrorException ex) {
+				employeeErrors.put(employeeId, ex.getMessage());
+			}
+		}
+		return employeeErrors;
 	}
 
-	private void verifyEmployee(TaskRequestDto taskRequestDto)
+	private void verifyEmployee(Long employeeId)
 			throws NotFoundException, InternalServerErrorException, BadRequestException {
 		
-		EmployeeResponseDto employee = null;
+		Optional<EmployeeResponseDto> employee;
 		
 		try {
-			ResponseEntity<EmployeeResponseDto> employeeResponseDto = employeesClient
-					.findById(taskRequestDto.getEmployeeId());
-
-			employee = employeeResponseDto.getBody();
-		} catch (FeignClientException ex) {
-			if (HttpStatus.NOT_FOUND.value() == ex.status()) {
-				throw new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, taskRequestDto.getEmployeeId()));
-			}
+			employee = employeesCache.findById(employeeId);
 		} catch (Exception ex) {
 			log.error(PROBLEM_EMPLOYEES_EXTERNAL_API, ex);
 			throw new InternalServerErrorException(PROBLEM_EMPLOYEES_EXTERNAL_API);
 		}
-		if (!employee.isEnabled()) {
-			throw new BadRequestException(String.format(EMPLOYEE_IS_INACTIVE, taskRequestDto.getEmployeeId()));
+		verifyEmployee(employeeId, employee);
+	}
+	
+	private static void verifyEmployee(Long employeeId, Optional<EmployeeResponseDto> employee)
+			throws NotFoundException, BadRequestException {
+		
+		if (employee.isEmpty()) {
+			throw new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, employeeId));
+		}
+		if (!employee.get().isEnabled()) {
+			throw new BadRequestException(String.format(EMPLOYEE_IS_INACTIVE, employeeId));
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,171 @@
+package com.github.silviacristinaa.tasks.stats;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.repositories.TaskCount;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.utils.TransactionCallbacks;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory task counts per status, priority, employee and start/end month. Writes made through this instance
+ * adjust them after their transaction commits. The whole aggregate is rebuilt with {@code GROUP BY} queries on
+ * startup and every {@code tasks.stats.reconcile-interval}. That rebuild fixes drift from concurrent writes and
+ * picks up changes made by other instances.
+ * <p>
+ * The rebuild reads one repeatable-read snapshot, in a single transaction. It is deliberately not read-only, so
+ * that it runs on the primary and sees this instance's own commits rather than a lagging replica. Deltas committed
+ * while it runs go to both the live and the rebuilt counts, so the swap does not drop them. A delta that committed
+ * before the snapshot but whose callback runs after the rebuild started is counted twice until the next rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatistics {
+
+	private final TaskRepository taskRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	private volatile Counts counts = new Counts();
+	private volatile Counts rebuilding;
+	private volatile Instant reconciledAt;
+
+	public void add(TaskStatsKey key) {
+		replace(null, key);
+	}
+
+	public void remove(TaskStatsKey key) {
+		replace(key, null);
+	}
+
+	public void replace(TaskStatsKey previous, TaskStatsKey current) {
+		TransactionCallbacks.afterCommit(() -> applyDelta(target -> {
+			if (previous != null) {
+				target.apply(previous, -1);
+			}
+			if (current != null) {
+				target.apply(current, 1);
+			}
+		}));
+	}
+
+	/**
+	 * Moves {@code count} tasks between statuses; the other dimensions do not change.
+	 */
+	public void moveStatus(StatusEnum from, StatusEnum to, long count) {
+		TransactionCallbacks.afterCommit(() -> applyDelta(target -> {
+			increment(target.byStatus, from, -count);
+			increment(target.byStatus, to, count);
+		}));
+	}
+
+	public TaskStatsResponseDto snapshot(boolean dateBuckets) {
+		Counts current = counts;
+		return new TaskStatsResponseDto(current.total.sum(), sums(current.byStatus), sums(current.byPriority),
+				sums(current.byEmployee), dateBuckets ? sums(current.byStartMonth) : null,
+				dateBuckets ? sums(current.byEndMonth) : null, reconciledAt);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT5M}",
+			initialDelayString = "${tasks.stats.reconcile-interval:PT5M}")
+	public synchronized void reconcile() {
+		Counts rebuilt = new Counts();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		rebuilding = rebuilt;
+		try {
+			transactionTemplate.executeWithoutResult(transactionStatus -> {
+				rebuilt.total.add(taskRepository.count());
+				load(rebuilt.byStatus, taskRepository.countByStatus(), Function.identity());
+				load(rebuilt.byPriority, taskRepository.countByPriority(), Function.identity());
+				load(rebuilt.byEmployee, taskRepository.countByEmployeeId(), Function.identity());
+				load(rebuilt.byStartMonth, taskRepository.countByStartMonth(), TaskStatistics::decodeMonth);
+				load(rebuilt.byEndMonth, taskRepository.countByEndMonth(), TaskStatistics::decodeMonth);
+			});
+			// swap before clearing rebuilding: a delta reads rebuilding first, then counts (see applyDelta)
+			counts = rebuilt;
+		} finally {
+			rebuilding = null;
+		}
+		reconciledAt = Instant.now();
+		log.debug("Task statistics reconciled, total={}", rebuilt.total.sum());
+	}
+
+	private void applyDelta(Consumer<Counts> delta) {
+		Counts next = rebuilding;
+		Counts target = counts;
+		delta.accept(target);
+		if (next != null && next != target) {
+			delta.accept(next);
+		}
+	}
+
+	private static <K, B> void load(Map<K, LongAdder> target, List<TaskCount<B>> rows, Function<B, K> toKey) {
+		for (TaskCount<B> row : rows) {
+			increment(target, row.getBucket() == null ? null : toKey.apply(row.getBucket()), row.getTotal());
+		}
+	}
+
+	// ConcurrentHashMap has no null keys; tasks without a status are only part of the total
+	private static <K> void increment(Map<K, LongAdder> target, K key, long delta) {
+		if (key != null && delta != 0) {
+			target.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+		}
+	}
+
+	private static <K> Map<K, Long> sums(Map<K, LongAdder> source) {
+		return source.entrySet().stream()
+				.filter(entry -> entry.getValue().sum() > 0)
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+	}
+
+	private static YearMonth decodeMonth(Integer bucket) {
+		return YearMonth.of(bucket / 100, bucket % 100);
+	}
+
+	private static YearMonth toYearMonth(LocalDate date) {
+		return date == null ? null : YearMonth.from(date);
+	}
+
+	private static final class Counts {
+
+		private final LongAdder total = new LongAdder();
+		private final Map<StatusEnum, LongAdder> byStatus = new ConcurrentHashMap<>();
+		private final Map<PriorityEnum, LongAdder> byPriority = new ConcurrentHashMap<>();
+		private final Map<Long, LongAdder> byEmployee = new ConcurrentHashMap<>();
+		private final Map<YearMonth, LongAdder> byStartMonth = new ConcurrentHashMap<>();
+		private final Map<YearMonth, LongAdder> byEndMonth = new ConcurrentHashMap<>();
+
+		private void apply(TaskStatsKey key, long delta) {
+			total.add(delta);
+			increment(byStatus, key.getStatus(), delta);
+			increment(byPriority, key.getPriority(), delta);
+			increment(byEmployee, key.getEmployeeId(), delta);
+			increment(byStartMonth, toYearMonth(key.getStartDate()), delta);
+			increment(byEndMonth, toYearMonth(key.getEndDate()), delta);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.github.silviacristinaa.tasks.stats;
+
+import java.time.LocalDate;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The columns of a task that {@link TaskStatistics} counts by.
+ */
+@AllArgsConstructor
+@Getter
+public class TaskStatsKey {
+
+	private final StatusEnum status;
+	private final PriorityEnum priority;
+	private final Long employeeId;
+	private final LocalDate startDate;
+	private final LocalDate endDate;
+
+	public static TaskStatsKey of(Task task) {
+		return new TaskStatsKey(task.getStatus(), task.getPriority(), task.getEmployeeId(), task.getStartDate(),
+				task.getEndDate());
+	}
+
+	public static TaskStatsKey of(TaskResponseDto task) {
+		return new TaskStatsKey(task.getStatus(), task.getPriority(), task.getEmployeeId(), task.getStartDate(),
+				task.getEndDate());
+	}
+
+	public TaskStatsKey withStatus(StatusEnum status) {
+		return new TaskStatsKey(status, priority, employeeId, startDate, endDate);
+	}
+}
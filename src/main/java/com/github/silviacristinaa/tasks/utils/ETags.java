@@ -0,0 +1,55 @@
+package com.github.silviacristinaa.tasks.utils;
+
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+
+/**
+ * Strong ETags derived from a task's version, and the If-None-Match / If-Match parsing the task resources share.
+ */
+public final class ETags {
+
+	private static final String ANY_ETAG = "*";
+	private static final String WEAK_ETAG_PREFIX = "W/";
+	private static final String MSG_ERROR_IF_MATCH = "If-Match must be a single ETag returned by this service";
+
+	private ETags() {
+	}
+
+	public static String toETag(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * If-None-Match uses the weak comparison, so a W/ prefix added by a proxy still matches.
+	 */
+	public static boolean matchesAny(String ifNoneMatch, String eTag) {
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if (candidate.startsWith(WEAK_ETAG_PREFIX)) {
+				candidate = candidate.substring(WEAK_ETAG_PREFIX.length());
+			}
+			if (candidate.equals(ANY_ETAG) || candidate.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the version an If-Match header pins the update to, or null when there is no precondition. Anything that
+	 * is not one of our strong ETags can never match, hence the 412.
+	 */
+	public static Long parseVersion(String ifMatch) throws PreconditionFailedException {
+		if (ifMatch == null || ifMatch.trim().equals(ANY_ETAG)) {
+			return null;
+		}
+		String eTag = ifMatch.trim();
+		if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+			throw new PreconditionFailedException(MSG_ERROR_IF_MATCH);
+		}
+		try {
+			return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+		} catch (NumberFormatException e) {
+			throw new PreconditionFailedException(MSG_ERROR_IF_MATCH);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.github.silviacristinaa.tasks.utils;
+
+import java.time.LocalDate;
+
+import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
+
+/**
+ * The date range rule shared by task writes and date filters: both ends or neither, and the end not before the start.
+ */
+public final class TaskDates {
+
+	private static final String MSG_ERROR_FILLING_DATES = "to perform the search by dates, it is mandatory to fill the initial"
+			+ " date and final date";
+	private static final String MSG_ERROR_DATE_GRATER_THAN = "End date must be greater than start date";
+
+	private TaskDates() {
+	}
+
+	public static void validate(LocalDate startDate, LocalDate endDate) throws BadRequestException {
+		
+		if (endDate == null && startDate == null) {
+			return;
+		}
+		if ((startDate == null && endDate != null) || (startDate != null && endDate == null)) {
+			throw new BadRequestException(MSG_ERROR_FILLING_DATES);
+		}
+		if (endDate.isBefore(startDate)) {
+			throw new BadRequestException(MSG_ERROR_DATE_GRATER_THAN);
+		}
+	}
+}
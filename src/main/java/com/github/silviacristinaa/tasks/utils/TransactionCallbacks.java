@@ -0,0 +1,27 @@
+package com.github.silviacristinaa.tasks.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	/**
+	 * Runs {@code callback} once the current transaction commits, or right away when there is none. Nothing runs
+	 * if the transaction rolls back.
+	 */
+	public static void afterCommit(Runnable callback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			callback.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				callback.run();
+			}
+		});
+	}
+}
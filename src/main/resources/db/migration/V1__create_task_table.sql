@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS task (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    start_date  DATE         NOT NULL,
+    end_date    DATE         NOT NULL,
+    priority    VARCHAR(255) NOT NULL,
+    status      VARCHAR(255),
+    employee_id BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- "Tasks of employee X" with an optional status, ordered or ranged by end date.
+CREATE INDEX idx_task_employee_status_end_date ON task (employee_id, status, end_date);
+
+-- Status filters ranged by end date (e.g. overdue IN_PROGRESS tasks).
+CREATE INDEX idx_task_status_end_date ON task (status, end_date);
+
+-- End/start date range filters; InnoDB appends the primary key, so the first one also serves the
+-- (end_date, id) keyset cursor.
+CREATE INDEX idx_task_end_date ON task (end_date);
+CREATE INDEX idx_task_start_date ON task (start_date);
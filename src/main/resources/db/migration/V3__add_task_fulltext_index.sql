@@ -0,0 +1,2 @@
+-- Keyword search runs MATCH (title, description) AGAINST (...) IN BOOLEAN MODE instead of LIKE '%...%'.
+ALTER TABLE task ADD FULLTEXT INDEX ftx_task_title_description (title, description);
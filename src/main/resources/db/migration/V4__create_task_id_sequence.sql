@@ -0,0 +1,7 @@
+-- Task ids come from a pooled sequence (emulated with a table on MySQL) instead of AUTO_INCREMENT, so Hibernate
+-- can batch inserts. With the pooled-lo optimizer the stored value is the next id to hand out.
+CREATE TABLE task_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM task;
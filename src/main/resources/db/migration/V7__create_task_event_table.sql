@@ -0,0 +1,19 @@
+-- Transactional outbox: task writes insert their change event here in the same transaction, and the relay
+-- publishes and deletes them in id order. AUTO_INCREMENT (not a pooled sequence) keeps ids in insertion order
+-- across instances, which is what keeps the events of one task in order. The task columns are copied as they are
+-- after the change (before it, for DELETED), so bulk writes can record their events with one INSERT ... SELECT.
+CREATE TABLE IF NOT EXISTS task_event (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    task_id      BIGINT       NOT NULL,
+    type         VARCHAR(32)  NOT NULL,
+    title        VARCHAR(100) NOT NULL,
+    description  VARCHAR(255),
+    start_date   DATE         NOT NULL,
+    end_date     DATE         NOT NULL,
+    priority     VARCHAR(255) NOT NULL,
+    status       VARCHAR(255),
+    employee_id  BIGINT       NOT NULL,
+    task_version BIGINT       NOT NULL,
+    created_at   TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,31 @@
+package com.github.silviacristinaa.tasks.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.github.silviacristinaa.tasks.exceptions.GlobalExceptionHandler;
+import com.github.silviacristinaa.tasks.exports.TaskExportWriter;
+
+/**
+ * Non-blocking variant of the task API: WebFlux, R2DBC and a reactive employees client. It only scans this
+ * package, so none of the JPA, MVC or scheduling beans of {@code TasksApplication} start, and it always runs
+ * with the {@code reactive} Spring profile (application-reactive.yml). Only compiled by the {@code reactive}
+ * Maven profile.
+ */
+@SpringBootApplication(exclude = { DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+		FlywayAutoConfiguration.class })
+@Import({ GlobalExceptionHandler.class, TaskExportWriter.class })
+public class ReactiveTasksApplication {
+
+	public static final String PROFILE = "reactive";
+
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(ReactiveTasksApplication.class);
+		application.setAdditionalProfiles(PROFILE);
+		application.run(args);
+	}
+}
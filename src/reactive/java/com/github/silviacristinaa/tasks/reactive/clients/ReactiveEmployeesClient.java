@@ -0,0 +1,63 @@
+package com.github.silviacristinaa.tasks.reactive.clients;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking employee lookup behind an async cache. Concurrent lookups of the same id share one call.
+ * Employees that do not exist are not cached, since the async cache drops entries that complete with null.
+ */
+@Component
+public class ReactiveEmployeesClient {
+
+	private static final String CACHE_NAME = "employees";
+	private static final String CIRCUIT_BREAKER_ID = "employees";
+	private static final String EMPLOYEE_PATH = "/employees/{id}";
+
+	private final WebClient employeesWebClient;
+	private final ReactiveCircuitBreaker circuitBreaker;
+	private final AsyncCache<Long, EmployeeResponseDto> cache;
+
+	public ReactiveEmployeesClient(WebClient employeesWebClient, ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+			MeterRegistry meterRegistry,
+			@Value("${tasks.employees.cache.maximum-size:10000}") long maximumSize,
+			@Value("${tasks.employees.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.employeesWebClient = employeesWebClient;
+		this.circuitBreaker = circuitBreakerFactory.create(CIRCUIT_BREAKER_ID);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite)
+				.recordStats()
+				.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+	}
+
+	/**
+	 * @return the employee, or an empty Mono when the employees api answered 404
+	 */
+	public Mono<EmployeeResponseDto> findById(Long id) {
+		return Mono.fromFuture(() -> cache.get(id, (key, executor) -> fetch(key).toFuture()));
+	}
+
+	private Mono<EmployeeResponseDto> fetch(Long id) {
+		return circuitBreaker.run(employeesWebClient.get()
+				.uri(EMPLOYEE_PATH, id)
+				.retrieve()
+				.bodyToMono(EmployeeResponseDto.class)
+				.onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty()));
+	}
+}
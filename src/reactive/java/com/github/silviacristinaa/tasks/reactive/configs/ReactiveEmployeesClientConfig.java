@@ -0,0 +1,58 @@
+package com.github.silviacristinaa.tasks.reactive.configs;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * WebClient and circuit breaker for the employees api, with the timeouts and thresholds the Feign client uses.
+ * There is no bulkhead: a pending call holds no thread, and the connection pool of the HTTP client bounds
+ * concurrency. 404s are turned into an empty result before the circuit breaker sees them.
+ */
+@Configuration
+public class ReactiveEmployeesClientConfig {
+
+	@Bean
+	public WebClient employeesWebClient(WebClient.Builder builder, @Value("${tasks.employees.url}") String url,
+			@Value("${spring.cloud.openfeign.client.config.employees.connect-timeout:1000}") int connectTimeoutMillis,
+			@Value("${spring.cloud.openfeign.client.config.employees.read-timeout:2000}") long readTimeoutMillis) {
+		HttpClient httpClient = HttpClient.create()
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+				.responseTimeout(Duration.ofMillis(readTimeoutMillis));
+		return builder.baseUrl(url)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.build();
+	}
+
+	@Bean
+	public Customizer<ReactiveResilience4JCircuitBreakerFactory> employeesReactiveCircuitBreakerCustomizer(
+			@Value("${tasks.employees.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+			@Value("${tasks.employees.circuit-breaker.slow-call-duration-threshold:1s}") Duration slowCallDurationThreshold,
+			@Value("${tasks.employees.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+			@Value("${tasks.employees.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+			@Value("${tasks.employees.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+			@Value("${tasks.employees.time-limiter.timeout:5s}") Duration timeout) {
+		return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+				.circuitBreakerConfig(CircuitBreakerConfig.custom()
+						.failureRateThreshold(failureRateThreshold)
+						.slowCallDurationThreshold(slowCallDurationThreshold)
+						.slidingWindowSize(slidingWindowSize)
+						.minimumNumberOfCalls(minimumNumberOfCalls)
+						.waitDurationInOpenState(waitDurationInOpenState)
+						.build())
+				.timeLimiterConfig(TimeLimiterConfig.custom().timeoutDuration(timeout).build())
+				.build());
+	}
+}
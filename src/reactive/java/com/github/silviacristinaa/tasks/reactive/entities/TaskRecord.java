@@ -0,0 +1,38 @@
+package com.github.silviacristinaa.tasks.reactive.entities;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * R2DBC mapping of the task table; the same columns as the JPA {@code Task} entity. {@link Version} makes
+ * saves conditional on the version that was read.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@Table("task")
+public class TaskRecord {
+
+	@Id
+	private Long id;
+	private String title;
+	private String description;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private PriorityEnum priority;
+	private StatusEnum status;
+	private Long employeeId;
+	@Version
+	private Long version;
+}
@@ -0,0 +1,38 @@
+package com.github.silviacristinaa.tasks.reactive.exceptions;
+
+import java.util.Arrays;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import com.github.silviacristinaa.tasks.exceptions.ErrorMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebFlux reports {@code @Valid} failures as {@link WebExchangeBindException} rather than
+ * {@code MethodArgumentNotValidException}. Ordered before {@code GlobalExceptionHandler}, whose catch-all would
+ * otherwise answer 500.
+ */
+@Slf4j
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveExceptionHandler {
+
+	private static final String EXCEPTION_MSG_ARGUMENTS_NOT_VALID = "Arguments not valid";
+
+	private static final String EXCEPTION_LOG_MSG = "e=%s,m=%s";
+
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorMessage> handleWebExchangeBindException(final WebExchangeBindException ex) {
+		log.error(String.format(EXCEPTION_LOG_MSG, ex.getClass().getSimpleName(), ex.getMessage()), ex);
+
+		return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_ARGUMENTS_NOT_VALID)
+				.errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
+	}
+}
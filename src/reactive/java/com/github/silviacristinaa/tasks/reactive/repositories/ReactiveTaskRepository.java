@@ -0,0 +1,10 @@
+package com.github.silviacristinaa.tasks.reactive.repositories;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.github.silviacristinaa.tasks.reactive.entities.TaskRecord;
+
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRecord, Long>, ReactiveTaskRepositoryCustom {
+}
@@ -0,0 +1,22 @@
+package com.github.silviacristinaa.tasks.reactive.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+
+import com.github.silviacristinaa.tasks.reactive.entities.TaskRecord;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTaskRepositoryCustom {
+
+	/**
+	 * One page of the tasks matching {@code criteria}, emitted as the rows arrive.
+	 */
+	Flux<TaskRecord> findByCriteria(Criteria criteria, Pageable pageable);
+
+	/**
+	 * Every task matching {@code criteria}; rows are fetched as the subscriber requests them.
+	 */
+	Flux<TaskRecord> findByCriteria(Criteria criteria, Sort sort);
+}
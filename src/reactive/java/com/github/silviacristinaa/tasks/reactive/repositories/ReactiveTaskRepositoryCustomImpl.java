@@ -0,0 +1,32 @@
+package com.github.silviacristinaa.tasks.reactive.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import com.github.silviacristinaa.tasks.reactive.entities.TaskRecord;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+
+	private final R2dbcEntityOperations entityOperations;
+
+	@Override
+	public Flux<TaskRecord> findByCriteria(Criteria criteria, Pageable pageable) {
+		return entityOperations.select(TaskRecord.class)
+				.matching(Query.query(criteria).with(pageable))
+				.all();
+	}
+
+	@Override
+	public Flux<TaskRecord> findByCriteria(Criteria criteria, Sort sort) {
+		return entityOperations.select(TaskRecord.class)
+				.matching(Query.query(criteria).sort(sort))
+				.all();
+	}
+}
@@ -0,0 +1,53 @@
+package com.github.silviacristinaa.tasks.reactive.repositories;
+
+import java.time.LocalDate;
+
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.util.StringUtils;
+
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+/**
+ * R2DBC counterpart of {@code TaskSpecifications}: only the filters that are set contribute a condition. H2 has
+ * no MySQL full-text index, so the keyword is a LIKE over title and description.
+ */
+public final class TaskCriteria {
+
+	private static final String TITLE = "title";
+	private static final String DESCRIPTION = "description";
+	private static final String START_DATE = "startDate";
+	private static final String END_DATE = "endDate";
+	private static final String PRIORITY = "priority";
+	private static final String STATUS = "status";
+	private static final String EMPLOYEE_ID = "employeeId";
+
+	private TaskCriteria() {
+	}
+
+	public static Criteria byFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate,
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status,
+			Long employeeId) {
+		Criteria criteria = Criteria.empty();
+		if (StringUtils.hasText(keyword)) {
+			String pattern = "%" + keyword + "%";
+			criteria = criteria.and(Criteria.where(TITLE).like(pattern).or(DESCRIPTION).like(pattern));
+		}
+		if (initialDateStartDate != null && finalDateStartDate != null) {
+			criteria = criteria.and(Criteria.where(START_DATE).between(initialDateStartDate, finalDateStartDate));
+		}
+		if (initialDateEndDate != null && finalDateEndDate != null) {
+			criteria = criteria.and(Criteria.where(END_DATE).between(initialDateEndDate, finalDateEndDate));
+		}
+		if (priority != null) {
+			criteria = criteria.and(Criteria.where(PRIORITY).is(priority.name()));
+		}
+		if (status != null) {
+			criteria = criteria.and(Criteria.where(STATUS).is(status.name()));
+		}
+		if (employeeId != null) {
+			criteria = criteria.and(Criteria.where(EMPLOYEE_ID).is(employeeId));
+		}
+		return criteria;
+	}
+}
@@ -0,0 +1,159 @@
+package com.github.silviacristinaa.tasks.reactive.resources;
+
+import java.net.URI;
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+import com.github.silviacristinaa.tasks.reactive.services.ReactiveTaskService;
+import com.github.silviacristinaa.tasks.utils.ETags;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The /tasks endpoints of {@code TaskResource} on WebFlux. Lists are the page content without the Page/Slice
+ * envelope: with {@code Accept: application/x-ndjson} each task is written as soon as its row is read, and the
+ * database is only read as fast as the client consumes.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/tasks")
+public class ReactiveTaskResource {
+
+	private static final String ID = "/{id}";
+	private static final MediaType CSV = new MediaType("text", "csv");
+
+	private final ReactiveTaskService taskService;
+
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	@ResponseStatus(value = HttpStatus.OK)
+	public Flux<TaskResponseDto> findAll(Pageable pageable) {
+		return taskService.findAll(pageable);
+	}
+
+	@GetMapping(value = "/filters", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	@ResponseStatus(value = HttpStatus.OK)
+	public Flux<TaskResponseDto> findByFilters(
+			@RequestParam(name = "keyword", required = false) String keyword,
+			@RequestParam(name = "initialDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateStartDate,
+			@RequestParam(name = "finalDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateStartDate,
+			@RequestParam(name = "initialDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateEndDate,
+			@RequestParam(name = "finalDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateEndDate,
+			@RequestParam(name = "priority", required = false) PriorityEnum priority,
+			@RequestParam(name = "status", required = false) StatusEnum status,
+			@RequestParam(name = "employeeId", required = false) Long employeeId,
+			Pageable pageable) {
+		return taskService.findByFilters(keyword, initialDateStartDate, finalDateStartDate, initialDateEndDate,
+				finalDateEndDate, priority, status, employeeId, pageable);
+	}
+
+	@GetMapping("/export")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<Flux<String>> export(
+			@RequestParam(name = "keyword", required = false) String keyword,
+			@RequestParam(name = "initialDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateStartDate,
+			@RequestParam(name = "finalDateStartDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateStartDate,
+			@RequestParam(name = "initialDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate initialDateEndDate,
+			@RequestParam(name = "finalDateEndDate", required = false)
+				@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate finalDateEndDate,
+			@RequestParam(name = "priority", required = false) PriorityEnum priority,
+			@RequestParam(name = "status", required = false) StatusEnum status,
+			@RequestParam(name = "employeeId", required = false) Long employeeId,
+			@RequestParam(name = "format", required = false, defaultValue = "NDJSON") ExportFormatEnum format) {
+		Flux<String> body = taskService.exportByFilters(keyword, initialDateStartDate, finalDateStartDate,
+				initialDateEndDate, finalDateEndDate, priority, status, employeeId, format);
+
+		boolean csv = format == ExportFormatEnum.CSV;
+		return ResponseEntity.ok()
+				.contentType(csv ? CSV : MediaType.APPLICATION_NDJSON)
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename(csv ? "tasks.csv" : "tasks.ndjson").build().toString())
+				.body(body);
+	}
+
+	@GetMapping(value = ID)
+	@ResponseStatus(value = HttpStatus.OK)
+	public Mono<ResponseEntity<TaskResponseDto>> findById(@PathVariable Long id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		return taskService.findOneTaskById(id).map(task -> {
+			String eTag = ETags.toETag(task.getVersion());
+			if (ifNoneMatch != null && ETags.matchesAny(ifNoneMatch, eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<TaskResponseDto>build();
+			}
+			return ResponseEntity.ok().eTag(eTag).body(task);
+		});
+	}
+
+	@PostMapping
+	@ResponseStatus(value = HttpStatus.CREATED)
+	public Mono<ResponseEntity<Void>> create(@RequestBody @Valid TaskRequestDto taskRequestDto,
+			ServerHttpRequest request) {
+		return taskService.create(taskRequestDto).map(task -> {
+			URI uri = UriComponentsBuilder.fromHttpRequest(request).path(ID).buildAndExpand(task.getId()).toUri();
+			return ResponseEntity.created(uri).build();
+		});
+	}
+
+	@PatchMapping(value = ID)
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<ResponseEntity<Void>> updateTaskStatus(@PathVariable Long id,
+			@RequestBody TaskStatusRequestDto taskStatusRequestDto,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+			throws PreconditionFailedException {
+		return taskService.updateTaskStatus(id, taskStatusRequestDto, ETags.parseVersion(ifMatch))
+				.thenReturn(ResponseEntity.noContent().build());
+	}
+
+	@PutMapping(value = ID)
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<ResponseEntity<Void>> update(@PathVariable Long id, @RequestBody @Valid TaskRequestDto taskRequestDto,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+			throws PreconditionFailedException {
+		return taskService.update(id, taskRequestDto, ETags.parseVersion(ifMatch))
+				.thenReturn(ResponseEntity.noContent().build());
+	}
+
+	@DeleteMapping(value = ID)
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+		return taskService.delete(id)
+				.thenReturn(ResponseEntity.noContent().build());
+	}
+}
@@ -0,0 +1,52 @@
+package com.github.silviacristinaa.tasks.reactive.services;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+
+import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@code TaskService}. Failures are signalled with the same exceptions
+ * ({@code NotFoundException}, {@code BadRequestException}, ...) as error signals instead of being thrown.
+ */
+public interface ReactiveTaskService {
+
+	Flux<TaskResponseDto> findAll(Pageable pageable);
+
+	Flux<TaskResponseDto> findByFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate,
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId,
+			Pageable pageable);
+
+	/**
+	 * Every matching task as export lines, preceded by the CSV header when {@code format} is CSV. Rows are read
+	 * from the database only as fast as the client consumes them.
+	 */
+	Flux<String> exportByFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate,
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status, Long employeeId,
+			ExportFormatEnum format);
+
+	Mono<TaskResponseDto> findOneTaskById(Long id);
+
+	Mono<TaskResponseDto> create(TaskRequestDto taskRequestDto);
+
+	/**
+	 * A non-null {@code version} must match the stored one, otherwise a {@code PreconditionFailedException} is signalled.
+	 */
+	Mono<Void> updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto, Long version);
+
+	/**
+	 * A non-null {@code version} must match the stored one, otherwise a {@code PreconditionFailedException} is signalled.
+	 */
+	Mono<Void> update(Long id, TaskRequestDto taskRequestDto, Long version);
+
+	Mono<Void> delete(Long id);
+}
@@ -0,0 +1,188 @@
+package com.github.silviacristinaa.tasks.reactive.services.impl;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
+import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
+import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+import com.github.silviacristinaa.tasks.exports.TaskExportWriter;
+import com.github.silviacristinaa.tasks.reactive.clients.ReactiveEmployeesClient;
+import com.github.silviacristinaa.tasks.reactive.entities.TaskRecord;
+import com.github.silviacristinaa.tasks.reactive.repositories.ReactiveTaskRepository;
+import com.github.silviacristinaa.tasks.reactive.repositories.TaskCriteria;
+import com.github.silviacristinaa.tasks.reactive.services.ReactiveTaskService;
+import com.github.silviacristinaa.tasks.utils.TaskDates;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+	private static final String TASK_NOT_FOUND = "Task %s not found";
+	private static final String TASK_VERSION_MISMATCH = "Task %s is no longer at version %s";
+	private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
+	private static final String EMPLOYEE_IS_INACTIVE = "Employee %s is inactive";
+	private static final String PROBLEM_EMPLOYEES_EXTERNAL_API = "There was a problem consuming the employees external api";
+
+	private static final Sort EXPORT_SORT = Sort.by("id");
+
+	private final ReactiveTaskRepository taskRepository;
+	private final ReactiveEmployeesClient employeesClient;
+	private final TaskExportWriter taskExportWriter;
+
+	/** Upper bound on the rows requested from R2DBC at once, however much the client asks for. */
+	@Value("${tasks.reactive.prefetch:256}")
+	private int prefetch;
+
+	@Override
+	public Flux<TaskResponseDto> findAll(Pageable pageable) {
+		return taskRepository.findByCriteria(Criteria.empty(), pageable)
+				.limitRate(prefetch)
+				.map(this::toResponseDto);
+	}
+
+	@Override
+	public Flux<TaskResponseDto> findByFilters(String keyword, LocalDate initialDateStartDate,
+			LocalDate finalDateStartDate, LocalDate initialDateEndDate, LocalDate finalDateEndDate,
+			PriorityEnum priority, StatusEnum status, Long employeeId, Pageable pageable) {
+		try {
+			TaskDates.validate(initialDateStartDate, finalDateStartDate);
+			TaskDates.validate(initialDateEndDate, finalDateEndDate);
+		} catch (BadRequestException ex) {
+			return Flux.error(ex);
+		}
+		return taskRepository.findByCriteria(TaskCriteria.byFilters(keyword, initialDateStartDate, finalDateStartDate,
+						initialDateEndDate, finalDateEndDate, priority, status, employeeId), pageable)
+				.limitRate(prefetch)
+				.map(this::toResponseDto);
+	}
+
+	@Override
+	public Flux<String> exportByFilters(String keyword, LocalDate initialDateStartDate, LocalDate finalDateStartDate,
+			LocalDate initialDateEndDate, LocalDate finalDateEndDate, PriorityEnum priority, StatusEnum status,
+			Long employeeId, ExportFormatEnum format) {
+		try {
+			TaskDates.validate(initialDateStartDate, finalDateStartDate);
+			TaskDates.validate(initialDateEndDate, finalDateEndDate);
+		} catch (BadRequestException ex) {
+			return Flux.error(ex);
+		}
+		Flux<String> lines = taskRepository.findByCriteria(TaskCriteria.byFilters(keyword, initialDateStartDate,
+						finalDateStartDate, initialDateEndDate, finalDateEndDate, priority, status, employeeId), EXPORT_SORT)
+				.limitRate(prefetch)
+				.handle((task, sink) -> {
+					try {
+						sink.next(taskExportWriter.line(toResponseDto(task), format));
+					} catch (IOException ex) {
+						sink.error(ex);
+					}
+				});
+		String header = taskExportWriter.header(format);
+		return header.isEmpty() ? lines : lines.startWith(header);
+	}
+
+	@Override
+	public Mono<TaskResponseDto> findOneTaskById(Long id) {
+		return findById(id).map(this::toResponseDto);
+	}
+
+	@Override
+	public Mono<TaskResponseDto> create(TaskRequestDto taskRequestDto) {
+		return validateDatesAndEmployee(taskRequestDto)
+				.then(Mono.defer(() -> taskRepository.save(toRecord(taskRequestDto, new TaskRecord()))))
+				.map(this::toResponseDto);
+	}
+
+	@Override
+	public Mono<Void> updateTaskStatus(Long id, TaskStatusRequestDto taskStatusRequestDto, Long version) {
+		return findById(id, version)
+				.flatMap(task -> {
+					task.setStatus(taskStatusRequestDto.getStatus());
+					return taskRepository.save(task);
+				})
+				.then();
+	}
+
+	@Override
+	public Mono<Void> update(Long id, TaskRequestDto taskRequestDto, Long version) {
+		return validateDatesAndEmployee(taskRequestDto)
+				.then(findById(id, version))
+				.flatMap(task -> taskRepository.save(toRecord(taskRequestDto, task)))
+				.then();
+	}
+
+	@Override
+	public Mono<Void> delete(Long id) {
+		return findById(id).flatMap(taskRepository::delete);
+	}
+
+	private Mono<TaskRecord> findById(Long id) {
+		return taskRepository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new NotFoundException(String.format(TASK_NOT_FOUND, id))));
+	}
+
+	/*
+	 * The save that follows is conditional on the version that was read, so a change committed after this check
+	 * still ends in an OptimisticLockingFailureException.
+	 */
+	private Mono<TaskRecord> findById(Long id, Long version) {
+		return findById(id).flatMap(task -> version != null && !version.equals(task.getVersion())
+				? Mono.<TaskRecord>error(new PreconditionFailedException(String.format(TASK_VERSION_MISMATCH, id, version)))
+				: Mono.just(task));
+	}
+
+	private Mono<Void> validateDatesAndEmployee(TaskRequestDto taskRequestDto) {
+		try {
+			TaskDates.validate(taskRequestDto.getStartDate(), taskRequestDto.getEndDate());
+		} catch (BadRequestException ex) {
+			return Mono.error(ex);
+		}
+		return verifyEmployee(taskRequestDto.getEmployeeId());
+	}
+
+	private Mono<Void> verifyEmployee(Long employeeId) {
+		return employeesClient.findById(employeeId)
+				.onErrorMap(ex -> {
+					log.error(PROBLEM_EMPLOYEES_EXTERNAL_API, ex);
+					return new InternalServerErrorException(PROBLEM_EMPLOYEES_EXTERNAL_API);
+				})
+				.switchIfEmpty(Mono.error(() -> new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, employeeId))))
+				.flatMap(employee -> employee.isEnabled() ? Mono.<Void>empty()
+						: Mono.<Void>error(new BadRequestException(String.format(EMPLOYEE_IS_INACTIVE, employeeId))));
+	}
+
+	private TaskResponseDto toResponseDto(TaskRecord task) {
+		return new TaskResponseDto(task.getId(), task.getTitle(), task.getDescription(), task.getStartDate(),
+				task.getEndDate(), task.getPriority(), task.getStatus(), task.getEmployeeId(), task.getVersion());
+	}
+
+	private TaskRecord toRecord(TaskRequestDto taskRequestDto, TaskRecord task) {
+		task.setTitle(taskRequestDto.getTitle());
+		task.setDescription(taskRequestDto.getDescription());
+		task.setStartDate(taskRequestDto.getStartDate());
+		task.setEndDate(taskRequestDto.getEndDate());
+		task.setPriority(taskRequestDto.getPriority());
+		task.setStatus(taskRequestDto.getStatus());
+		task.setEmployeeId(taskRequestDto.getEmployeeId());
+		return task;
+	}
+}
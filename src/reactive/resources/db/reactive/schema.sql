@@ -0,0 +1,18 @@
+-- The task table as it is after the Flyway migrations (db/migration), without the MySQL-only full-text index.
+CREATE TABLE IF NOT EXISTS task (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    start_date  DATE         NOT NULL,
+    end_date    DATE         NOT NULL,
+    priority    VARCHAR(255) NOT NULL,
+    status      VARCHAR(255),
+    employee_id BIGINT       NOT NULL,
+    version     BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_employee_status_end_date ON task (employee_id, status, end_date);
+CREATE INDEX IF NOT EXISTS idx_task_status_end_date ON task (status, end_date);
+CREATE INDEX IF NOT EXISTS idx_task_end_date ON task (end_date);
+CREATE INDEX IF NOT EXISTS idx_task_start_date ON task (start_date);
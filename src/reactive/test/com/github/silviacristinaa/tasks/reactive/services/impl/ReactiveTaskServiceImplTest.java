@@ -0,0 +1,229 @@
+package com.github.silviacristinaa.tasks.reactive.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
+import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.tasks.enums.DepartmentEnum;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
+import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
+import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+import com.github.silviacristinaa.tasks.exports.TaskExportWriter;
+import com.github.silviacristinaa.tasks.reactive.clients.ReactiveEmployeesClient;
+import com.github.silviacristinaa.tasks.reactive.entities.TaskRecord;
+import com.github.silviacristinaa.tasks.reactive.repositories.ReactiveTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ReactiveTaskServiceImplTest {
+
+    private static final long ID = 1l;
+    private static final long VERSION = 0l;
+    private static final String TITLE = "Test";
+    private static final String DESCRIPTION = "test";
+
+    private static final String MSG_ERROR_DATE_GRATER_THAN = "End date must be greater than start date";
+    private static final String TASK_NOT_FOUND = "Task %s not found";
+    private static final String TASK_VERSION_MISMATCH = "Task %s is no longer at version %s";
+    private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
+    private static final String EMPLOYEE_IS_INACTIVE = "Employee %s is inactive";
+    private static final String PROBLEM_EMPLOYEES_EXTERNAL_API = "There was a problem consuming the employees " +
+            "external api";
+
+    private LocalDate localDateStart;
+    private LocalDate localDateEnd;
+    private TaskRequestDto taskRequestDto;
+    private EmployeeResponseDto employeeResponseDto;
+    private TaskRecord task;
+
+    @InjectMocks
+    private ReactiveTaskServiceImpl reactiveTaskServiceImpl;
+
+    @Mock
+    private ReactiveTaskRepository taskRepository;
+
+    @Mock
+    private ReactiveEmployeesClient employeesClient;
+
+    @Spy
+    private TaskExportWriter taskExportWriter = new TaskExportWriter(new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reactiveTaskServiceImpl, "prefetch", 256);
+
+        localDateStart = LocalDate.now();
+        localDateEnd = LocalDate.now().plusDays(1);
+
+        taskRequestDto = new TaskRequestDto(TITLE, DESCRIPTION, localDateStart, localDateEnd, PriorityEnum.HIGH,
+                StatusEnum.IN_PROGRESS, ID);
+
+        employeeResponseDto = new EmployeeResponseDto(ID, "Test", "00000000000", DepartmentEnum.IT,
+                true);
+
+        task = new TaskRecord(ID, TITLE, DESCRIPTION, localDateStart, localDateEnd, PriorityEnum.HIGH,
+                StatusEnum.IN_PROGRESS, ID, VERSION);
+    }
+
+    @Test
+    void whenFindAllReturnTaskResponseDtos() {
+        when(taskRepository.findByCriteria(Mockito.any(), Mockito.any(PageRequest.class))).thenReturn(Flux.just(task));
+
+        StepVerifier.create(reactiveTaskServiceImpl.findAll(PageRequest.of(0, 1)))
+                .assertNext(response -> {
+                    assertEquals(ID, response.getId());
+                    assertEquals(TITLE, response.getTitle());
+                    assertEquals(VERSION, response.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void whenFindByFiltersWithEndDateBeforeStartDateReturnBadRequestException() {
+        StepVerifier.create(reactiveTaskServiceImpl.findByFilters(null, localDateEnd, localDateStart, null, null,
+                        null, null, null, PageRequest.of(0, 1)))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(BadRequestException.class, error.getClass());
+                    assertEquals(MSG_ERROR_DATE_GRATER_THAN, error.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void whenExportCsvReturnHeaderAndOneLinePerTask() {
+        when(taskRepository.findByCriteria(Mockito.any(), Mockito.any(Sort.class))).thenReturn(Flux.just(task));
+
+        StepVerifier.create(reactiveTaskServiceImpl.exportByFilters(null, null, null, null, null, null, null, null,
+                        ExportFormatEnum.CSV))
+                .expectNext("id,title,description,startDate,endDate,priority,status,employeeId\n")
+                .expectNext("1,Test,test," + localDateStart + "," + localDateEnd + ",HIGH,IN_PROGRESS,1\n")
+                .verifyComplete();
+    }
+
+    @Test
+    void whenFindOneTaskByIdNotFoundReturnNotFoundException() {
+        when(taskRepository.findById(ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTaskServiceImpl.findOneTaskById(ID))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(NotFoundException.class, error.getClass());
+                    assertEquals(String.format(TASK_NOT_FOUND, ID), error.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    void whenCreateReturnSuccess() {
+        when(employeesClient.findById(ID)).thenReturn(Mono.just(employeeResponseDto));
+        when(taskRepository.save(Mockito.any())).thenReturn(Mono.just(task));
+
+        StepVerifier.create(reactiveTaskServiceImpl.create(taskRequestDto))
+                .assertNext(response -> assertEquals(ID, response.getId()))
+                .verifyComplete();
+
+        verify(taskRepository, times(1)).save(Mockito.any());
+    }
+
+    @Test
+    void whenCreateWithEmployeeNotFoundReturnNotFoundException() {
+        when(employeesClient.findById(ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTaskServiceImpl.create(taskRequestDto))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(NotFoundException.class, error.getClass());
+                    assertEquals(String.format(EMPLOYEE_NOT_FOUND, ID), error.getMessage());
+                })
+                .verify();
+
+        verify(taskRepository, never()).save(Mockito.any());
+    }
+
+    @Test
+    void whenCreateWithInactiveEmployeeReturnBadRequestException() {
+        when(employeesClient.findById(ID)).thenReturn(Mono.just(new EmployeeResponseDto(ID, "Test", "00000000000",
+                DepartmentEnum.IT, false)));
+
+        StepVerifier.create(reactiveTaskServiceImpl.create(taskRequestDto))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(BadRequestException.class, error.getClass());
+                    assertEquals(String.format(EMPLOYEE_IS_INACTIVE, ID), error.getMessage());
+                })
+                .verify();
+
+        verify(taskRepository, never()).save(Mockito.any());
+    }
+
+    @Test
+    void whenCreateWithEmployeesApiFailureReturnInternalServerErrorException() {
+        when(employeesClient.findById(ID)).thenReturn(Mono.error(new IllegalStateException("circuit open")));
+
+        StepVerifier.create(reactiveTaskServiceImpl.create(taskRequestDto))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(InternalServerErrorException.class, error.getClass());
+                    assertEquals(PROBLEM_EMPLOYEES_EXTERNAL_API, error.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    void whenUpdateTaskStatusReturnSuccess() {
+        when(taskRepository.findById(ID)).thenReturn(Mono.just(task));
+        when(taskRepository.save(task)).thenReturn(Mono.just(task));
+
+        StepVerifier.create(reactiveTaskServiceImpl.updateTaskStatus(ID,
+                        new TaskStatusRequestDto(StatusEnum.COMPLETED), VERSION))
+                .verifyComplete();
+
+        assertEquals(StatusEnum.COMPLETED, task.getStatus());
+    }
+
+    @Test
+    void whenUpdateWithStaleVersionReturnPreconditionFailedException() {
+        when(employeesClient.findById(ID)).thenReturn(Mono.just(employeeResponseDto));
+        when(taskRepository.findById(ID)).thenReturn(Mono.just(task));
+
+        StepVerifier.create(reactiveTaskServiceImpl.update(ID, taskRequestDto, VERSION + 1))
+                .expectErrorSatisfies(error -> {
+                    assertEquals(PreconditionFailedException.class, error.getClass());
+                    assertEquals(String.format(TASK_VERSION_MISMATCH, ID, VERSION + 1), error.getMessage());
+                })
+                .verify();
+
+        verify(taskRepository, never()).save(Mockito.any());
+    }
+
+    @Test
+    void whenDeleteReturnSuccess() {
+        when(taskRepository.findById(ID)).thenReturn(Mono.just(task));
+        when(taskRepository.delete(task)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTaskServiceImpl.delete(ID))
+                .verifyComplete();
+
+        verify(taskRepository, times(1)).delete(task);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.silviacristinaa.tasks.caches;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeTasksCacheTest {
+
+    private static final long EMPLOYEE_ID = 1l;
+    private static final long MAXIMUM_WEIGHT = 100;
+    private static final int MAX_TASKS_PER_EMPLOYEE = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskResponseDto taskResponseDto;
+    private EmployeeTasksCache employeeTasksCache;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskResponseDto = new TaskResponseDto(1l, "Test", "test", LocalDate.now(), LocalDate.now().plusDays(1),
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, EMPLOYEE_ID, 0l);
+
+        employeeTasksCache = new EmployeeTasksCache(taskRepository, meterRegistry, MAXIMUM_WEIGHT,
+                Duration.ofMinutes(1), MAX_TASKS_PER_EMPLOYEE);
+    }
+
+    @Test
+    void whenFindByEmployeeIdTwiceQueryOnce() {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any())).thenReturn(new SliceImpl<>(
+                List.of(taskResponseDto)));
+
+        List<TaskResponseDto> first = employeeTasksCache.findByEmployeeId(EMPLOYEE_ID).get();
+        List<TaskResponseDto> second = employeeTasksCache.findByEmployeeId(EMPLOYEE_ID).get();
+
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        verify(taskRepository, times(1)).findResponseSlice(Mockito.any(), Mockito.any());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "employeeTasks").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void whenEvictedOutsideTransactionReloadOnNextRead() {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any())).thenReturn(new SliceImpl<>(
+                List.of(taskResponseDto)));
+
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID);
+        employeeTasksCache.evictAfterCommit(List.of(EMPLOYEE_ID));
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID);
+
+        verify(taskRepository, times(2)).findResponseSlice(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void whenEvictAllReloadEveryEmployee() {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any())).thenReturn(new SliceImpl<>(
+                List.of(taskResponseDto)));
+
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID);
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID + 1);
+        employeeTasksCache.evictAllAfterCommit();
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID);
+        employeeTasksCache.findByEmployeeId(EMPLOYEE_ID + 1);
+
+        verify(taskRepository, times(4)).findResponseSlice(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void whenEmployeeHasMoreTasksThanCapDoNotCacheThem() {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any())).thenReturn(new SliceImpl<>(
+                List.of(taskResponseDto), PageRequest.of(0, MAX_TASKS_PER_EMPLOYEE), true));
+
+        assertTrue(employeeTasksCache.findByEmployeeId(EMPLOYEE_ID).isEmpty());
+        verify(taskRepository, times(1)).findResponseSlice(Mockito.any(),
+                eq(PageRequest.of(0, MAX_TASKS_PER_EMPLOYEE, EmployeeTasksCache.SORT)));
+    }
+}
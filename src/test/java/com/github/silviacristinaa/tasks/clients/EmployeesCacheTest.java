@@ -0,0 +1,108 @@
+package com.github.silviacristinaa.tasks.clients;
+
+import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.tasks.enums.DepartmentEnum;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeesCacheTest {
+
+    private static final long ID = 1l;
+    private static final long NOT_FOUND_ID = 2l;
+    private static final long FAILING_ID = 3l;
+    private static final long MAXIMUM_SIZE = 100;
+
+    private EmployeeResponseDto employeeResponseDto;
+    private Request request;
+    private EmployeesCache employeesCache;
+
+    @Mock
+    private EmployeesClient employeesClient;
+
+    @BeforeEach
+    void setUp() {
+        employeeResponseDto = new EmployeeResponseDto(ID, "Test", "00000000000", DepartmentEnum.IT,
+                true);
+        request = Request.create(Request.HttpMethod.GET, "url", new HashMap<>(), null, new RequestTemplate());
+
+        employeesCache = new EmployeesCache(employeesClient, new SimpleMeterRegistry(), MAXIMUM_SIZE,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(30), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeesCache.shutdown();
+    }
+
+    @Test
+    void whenFindByIdTwiceCallEmployeesClientOnce() {
+        when(employeesClient.findById(anyLong())).thenReturn(ResponseEntity.ok(employeeResponseDto));
+
+        Optional<EmployeeResponseDto> first = employeesCache.findById(ID);
+        Optional<EmployeeResponseDto> second = employeesCache.findById(ID);
+
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(employeesClient, times(1)).findById(ID);
+    }
+
+    @Test
+    void whenEmployeeNotFoundCacheEmptyResult() {
+        when(employeesClient.findById(anyLong())).thenThrow(new FeignException.NotFound(
+                "message", request, null, null));
+
+        assertTrue(employeesCache.findById(ID).isEmpty());
+        assertTrue(employeesCache.findById(ID).isEmpty());
+        verify(employeesClient, times(1)).findById(ID);
+    }
+
+    @Test
+    void whenEmployeesApiFailsDoNotCacheError() {
+        when(employeesClient.findById(anyLong())).thenThrow(new FeignException.InternalServerError(
+                "message", request, null, null)).thenReturn(ResponseEntity.ok(employeeResponseDto));
+
+        assertThrows(FeignException.InternalServerError.class, () -> employeesCache.findById(ID));
+        assertTrue(employeesCache.findById(ID).isPresent());
+        verify(employeesClient, times(2)).findById(ID);
+    }
+
+    @Test
+    void whenFindAllByIdLoadMissingEmployeesAndLeaveOutFailures() {
+        when(employeesClient.findById(ID)).thenReturn(ResponseEntity.ok(employeeResponseDto));
+        when(employeesClient.findById(NOT_FOUND_ID)).thenThrow(new FeignException.NotFound(
+                "message", request, null, null));
+        when(employeesClient.findById(FAILING_ID)).thenThrow(new FeignException.InternalServerError(
+                "message", request, null, null));
+
+        Map<Long, Optional<EmployeeResponseDto>> employees = employeesCache.findAllById(
+                List.of(ID, NOT_FOUND_ID, FAILING_ID));
+
+        assertEquals(2, employees.size());
+        assertSame(employeeResponseDto, employees.get(ID).get());
+        assertTrue(employees.get(NOT_FOUND_ID).isEmpty());
+        assertFalse(employees.containsKey(FAILING_ID));
+
+        employeesCache.findById(ID);
+        verify(employeesClient, times(1)).findById(ID);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.silviacristinaa.tasks.clients;
+
+import com.github.silviacristinaa.tasks.configs.EmployeesClientConfig;
+import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Optional;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = EmployeesClientTest.Config.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.cloud.openfeign.client.config.employees.read-timeout=300",
+                "tasks.employees.circuit-breaker.sliding-window-size=4",
+                "tasks.employees.circuit-breaker.minimum-number-of-calls=4",
+                "tasks.employees.circuit-breaker.wait-duration-in-open-state=1m"
+        })
+public class EmployeesClientTest {
+
+    private static final String EMPLOYEE_JSON = "{\"id\":%s,\"name\":\"Test\",\"cpf\":\"00000000000\"," +
+            "\"department\":\"IT\",\"enabled\":true}";
+    private static final int MINIMUM_NUMBER_OF_CALLS = 4;
+
+    private static final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+
+    static {
+        wireMockServer.start();
+    }
+
+    @Autowired
+    private EmployeesCache employeesCache;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("tasks.employees.url", wireMockServer::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void whenEmployeeExistsReturnEmployee() {
+        wireMockServer.stubFor(get("/employees/1").willReturn(okJson(String.format(EMPLOYEE_JSON, 1))));
+
+        Optional<EmployeeResponseDto> response = employeesCache.findById(1L);
+
+        assertTrue(response.isPresent());
+        assertEquals(1L, response.get().getId());
+        assertTrue(response.get().isEnabled());
+    }
+
+    @Test
+    void whenEmployeeDoesNotExistReturnEmpty() {
+        wireMockServer.stubFor(get("/employees/2").willReturn(notFound()));
+
+        assertTrue(employeesCache.findById(2L).isEmpty());
+    }
+
+    @Test
+    void whenEmployeesApiIsSlowerThanReadTimeoutThrowException() {
+        wireMockServer.stubFor(get("/employees/3").willReturn(okJson(String.format(EMPLOYEE_JSON, 3))
+                .withFixedDelay(1000)));
+
+        assertThrows(RuntimeException.class, () -> employeesCache.findById(3L));
+    }
+
+    @Test
+    @DirtiesContext
+    void whenEmployeesApiKeepsFailingOpenCircuit() {
+        wireMockServer.stubFor(get(urlPathMatching("/employees/.*")).willReturn(serverError()));
+
+        for (long id = 10; id < 10 + MINIMUM_NUMBER_OF_CALLS; id++) {
+            final long employeeId = id;
+            assertThrows(RuntimeException.class, () -> employeesCache.findById(employeeId));
+        }
+        assertThrows(RuntimeException.class, () -> employeesCache.findById(100L));
+
+        wireMockServer.verify(MINIMUM_NUMBER_OF_CALLS, getRequestedFor(urlPathMatching("/employees/.*")));
+    }
+
+    @Configuration
+    @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            FlywayAutoConfiguration.class})
+    @EnableFeignClients(clients = EmployeesClient.class)
+    @Import({EmployeesCache.class, EmployeesClientConfig.class})
+    static class Config {
+    }
+}
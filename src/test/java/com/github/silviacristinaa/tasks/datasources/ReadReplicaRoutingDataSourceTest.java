@@ -0,0 +1,131 @@
+package com.github.silviacristinaa.tasks.datasources;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ReadReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica";
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @Mock
+    private DataSource unavailableReplica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new DriverManagerDataSource(PRIMARY_URL + ";DB_CLOSE_DELAY=-1", "sa", "");
+        replica = new DriverManagerDataSource(REPLICA_URL + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    void whenNotReadOnlyReturnPrimaryConnection() throws SQLException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+    }
+
+    @Test
+    void whenReadOnlyReturnReplicaConnection() throws SQLException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(REPLICA_URL, urlOf(routingDataSource));
+    }
+
+    @Test
+    void whenReadOnlyAndPinnedToPrimaryReturnPrimaryConnection() throws SQLException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadReplicaRoutingDataSource.pinToPrimary();
+
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+    }
+
+    @Test
+    void whenReplicaRefusesConnectionFallBackToPrimaryUntilHealthCheckPasses() throws SQLException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary,
+                List.of(unavailableReplica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(unavailableReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+        assertEquals(0, routingDataSource.getHealthyReplicas());
+        verify(unavailableReplica, times(1)).getConnection();
+
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        doReturn(connection).when(unavailableReplica).getConnection();
+        routingDataSource.checkReplicas();
+
+        assertEquals(1, routingDataSource.getHealthyReplicas());
+        assertSame(connection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void whenHealthChecksRunOnTheirOwnThreadRestoreRecoveredReplica() throws SQLException, IOException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary,
+                List.of(unavailableReplica));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(unavailableReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        doReturn(connection).when(unavailableReplica).getConnection();
+        routingDataSource.startHealthChecks(Duration.ofMillis(10));
+        try {
+            verify(connection, timeout(5000).atLeast(2)).isValid(anyInt());
+            assertEquals(1, routingDataSource.getHealthyReplicas());
+        } finally {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    void whenTargetSelectedAtTransactionBeginUseItForConnections() throws SQLException {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+        Object previous = routingDataSource.selectTarget(true);
+        try {
+            assertTrue(routingDataSource.isReplicaSelected());
+            assertEquals(REPLICA_URL, urlOf(routingDataSource));
+        } finally {
+            routingDataSource.restoreTarget(previous);
+        }
+        assertFalse(routingDataSource.isReplicaSelected());
+        assertEquals(PRIMARY_URL, urlOf(routingDataSource));
+    }
+
+    private String urlOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            return url.contains(";") ? url.substring(0, url.indexOf(';')) : url;
+        }
+    }
+}
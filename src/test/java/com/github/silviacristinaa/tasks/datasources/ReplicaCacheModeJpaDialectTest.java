@@ -0,0 +1,111 @@
+package com.github.silviacristinaa.tasks.datasources;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ReplicaCacheModeJpaDialectTest {
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+    private ReplicaCacheModeJpaDialect dialect;
+    private EntityManager entityManager;
+    private SessionImplementor session;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+        dialect = new ReplicaCacheModeJpaDialect(routingDataSource);
+        dialect.setPrepareConnection(false);
+        entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        session = mock(SessionImplementor.class, RETURNS_DEEP_STUBS);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getHibernateFlushMode()).thenReturn(FlushMode.AUTO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadReplicaRoutingDataSource.unpin();
+        routingDataSource.restoreTarget(null);
+    }
+
+    @Test
+    void whenReadOnlyTransactionRoutedToReplicaOnlyReadFromCaches() throws SQLException {
+        dialect.beginTransaction(entityManager, readOnly());
+
+        assertTrue(routingDataSource.isReplicaSelected());
+        verify(session, times(1)).setCacheMode(CacheMode.GET);
+        verify(session, never()).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void whenReadOnlyTransactionPinnedToPrimaryFillCaches() throws SQLException {
+        ReadReplicaRoutingDataSource.pinToPrimary();
+
+        dialect.beginTransaction(entityManager, readOnly());
+
+        assertFalse(routingDataSource.isReplicaSelected());
+        verify(session, times(1)).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void whenNoReplicaIsHealthyFillCaches() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        routingDataSource.checkReplicas();
+
+        dialect.beginTransaction(entityManager, readOnly());
+
+        verify(session, times(1)).setCacheMode(CacheMode.NORMAL);
+        verify(session, never()).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void whenReadWriteTransactionBeginsRestoreNormalCacheMode() throws SQLException {
+        dialect.beginTransaction(entityManager, new DefaultTransactionDefinition());
+
+        verify(session, times(1)).setCacheMode(CacheMode.NORMAL);
+        verify(session, never()).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void whenTransactionIsCleanedUpRestorePreviousTarget() throws SQLException {
+        Object outer = dialect.beginTransaction(entityManager, readOnly());
+        Object inner = dialect.beginTransaction(entityManager, new DefaultTransactionDefinition());
+        assertFalse(routingDataSource.isReplicaSelected());
+
+        dialect.cleanupTransaction(inner);
+        assertTrue(routingDataSource.isReplicaSelected());
+
+        dialect.cleanupTransaction(outer);
+        assertFalse(routingDataSource.isReplicaSelected());
+    }
+
+    private static DefaultTransactionDefinition readOnly() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return definition;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.silviacristinaa.tasks.exceptions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+
+    private static final String ERRORS_METRIC = "tasks.errors";
+    private static final String MESSAGE = "Task 1 not found";
+
+    private MeterRegistry meterRegistry;
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry);
+    }
+
+    @Test
+    void whenHandleNotFoundExceptionCountByExceptionAndStatus() {
+        ResponseEntity<ErrorMessage> response = globalExceptionHandler
+                .handleMethodArgumentNotFoundException(new NotFoundException(MESSAGE));
+        globalExceptionHandler.handleMethodArgumentNotFoundException(new NotFoundException(MESSAGE));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(2, meterRegistry.get(ERRORS_METRIC)
+                .tag("exception", NotFoundException.class.getSimpleName())
+                .tag("status", "404")
+                .counter().count());
+    }
+
+    @Test
+    void whenHandleUnexpectedExceptionCountAsInternalServerError() {
+        globalExceptionHandler.processException(new IllegalStateException(MESSAGE));
+
+        assertEquals(1, meterRegistry.get(ERRORS_METRIC)
+                .tag("exception", IllegalStateException.class.getSimpleName())
+                .tag("status", "500")
+                .counter().count());
+    }
+
+    @Test
+    void whenHandleTaskRejectedExceptionReturnServiceUnavailable() {
+        ResponseEntity<ErrorMessage> response = globalExceptionHandler
+                .handleTaskRejectedException(new TaskRejectedException("Export pool is full"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(1, meterRegistry.get(ERRORS_METRIC)
+                .tag("exception", TaskRejectedException.class.getSimpleName())
+                .tag("status", "503")
+                .counter().count());
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.silviacristinaa.tasks.jobs;
+
+import com.github.silviacristinaa.tasks.caches.EmployeeTasksCache;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import com.github.silviacristinaa.tasks.outbox.TaskOutbox;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.stats.TaskStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class LateTaskSweeperTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final LocalDate TODAY = LocalDate.of(2023, 1, 10);
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    private SimpleMeterRegistry meterRegistry;
+    private LateTaskSweeper lateTaskSweeper;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskOutbox taskOutbox;
+
+    @Mock
+    private EmployeeTasksCache employeeTasksCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lateTaskSweeper = new LateTaskSweeper(taskRepository, taskStatistics, taskOutbox, employeeTasksCache,
+                transactionManager, meterRegistry, CHUNK_SIZE, ZONE);
+    }
+
+    @Test
+    void whenMarkOverdueAsLateLoopUntilChunkComesBackShort() {
+        when(taskRepository.findOverdueIdsForUpdate(TODAY, CHUNK_SIZE))
+                .thenReturn(List.of(1l, 2l), List.of(3l, 4l), List.of(5l));
+        when(taskRepository.markLateByIdIn(anyCollection())).thenAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).size());
+
+        int total = lateTaskSweeper.markOverdueAsLate(TODAY);
+
+        assertEquals(5, total);
+        verify(taskRepository, times(3)).findOverdueIdsForUpdate(TODAY, CHUNK_SIZE);
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.STATUS_UPDATED, List.of(1l, 2l));
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.STATUS_UPDATED, List.of(3l, 4l));
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.STATUS_UPDATED, List.of(5l));
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(5, meterRegistry.get("tasks.late.sweeper.rows").counter().count());
+        verify(taskStatistics, times(2)).moveStatus(StatusEnum.IN_PROGRESS, StatusEnum.LATE, 2);
+        verify(taskStatistics, times(1)).moveStatus(StatusEnum.IN_PROGRESS, StatusEnum.LATE, 1);
+    }
+
+    @Test
+    void whenSweepRecordDuration() {
+        when(taskRepository.findOverdueIdsForUpdate(any(), eq(CHUNK_SIZE))).thenReturn(List.of());
+
+        lateTaskSweeper.sweep();
+
+        verify(taskRepository, times(1)).findOverdueIdsForUpdate(any(), eq(CHUNK_SIZE));
+        verify(taskRepository, never()).markLateByIdIn(anyCollection());
+        verifyNoInteractions(taskOutbox);
+        assertEquals(1, meterRegistry.get("tasks.late.sweeper.duration").timer().count());
+        verify(employeeTasksCache, never()).evictAllAfterCommit();
+    }
+
+    @Test
+    void whenSweepUseTodayInConfiguredZone() {
+        when(taskRepository.findOverdueIdsForUpdate(any(), eq(CHUNK_SIZE))).thenReturn(List.of());
+
+        lateTaskSweeper.sweep();
+
+        verify(taskRepository, times(1)).findOverdueIdsForUpdate(LocalDate.now(ZONE), CHUNK_SIZE);
+    }
+
+    @Test
+    void whenChunkSizeIsNotPositiveThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LateTaskSweeper(taskRepository, taskStatistics, taskOutbox, employeeTasksCache,
+                        transactionManager, meterRegistry, 0, ZONE));
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.tasks.jobs;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import com.github.silviacristinaa.tasks.outbox.TaskEventSink;
+import com.github.silviacristinaa.tasks.repositories.TaskEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class TaskOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long TASK_ID = 1l;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Mock
+    private TaskEventRepository taskEventRepository;
+
+    @Mock
+    private TaskEventSink taskEventSink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskOutboxRelay = new TaskOutboxRelay(taskEventRepository, taskEventSink, transactionManager, meterRegistry,
+                BATCH_SIZE);
+    }
+
+    @Test
+    void whenPublishPendingPublishAndDeleteBatchesUntilOneComesBackShort() throws Exception {
+        List<TaskEvent> first = List.of(event(1l, TaskEventTypeEnum.CREATED), event(2l, TaskEventTypeEnum.UPDATED));
+        List<TaskEvent> second = List.of(event(3l, TaskEventTypeEnum.DELETED));
+        when(taskEventRepository.findOldest(Mockito.any(Pageable.class))).thenReturn(first, second);
+
+        int total = taskOutboxRelay.publishPending();
+
+        assertEquals(3, total);
+        InOrder inOrder = inOrder(taskEventSink, taskEventRepository);
+        inOrder.verify(taskEventSink).publish(first);
+        inOrder.verify(taskEventRepository).deleteAllByIdInBatch(List.of(1l, 2l));
+        inOrder.verify(taskEventSink).publish(second);
+        inOrder.verify(taskEventRepository).deleteAllByIdInBatch(List.of(3l));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3, meterRegistry.get("tasks.outbox.published").counter().count());
+    }
+
+    @Test
+    void whenSinkFailsKeepBatchInOutboxAndStopRun() throws Exception {
+        List<TaskEvent> first = List.of(event(1l, TaskEventTypeEnum.CREATED), event(2l, TaskEventTypeEnum.UPDATED));
+        when(taskEventRepository.findOldest(Mockito.any(Pageable.class))).thenReturn(first);
+        doThrow(new IllegalStateException("Partition 1 is full")).when(taskEventSink).publish(first);
+
+        taskOutboxRelay.relay();
+
+        verify(taskEventSink, times(1)).publish(first);
+        verify(taskEventRepository, never()).deleteAllByIdInBatch(Mockito.any());
+        verify(transactionManager, times(1)).rollback(any());
+        assertEquals(1, meterRegistry.get("tasks.outbox.failures").counter().count());
+    }
+
+    @Test
+    void whenSinkThrowsIOExceptionCountFailureAndKeepBatch() throws Exception {
+        List<TaskEvent> first = List.of(event(1l, TaskEventTypeEnum.CREATED));
+        when(taskEventRepository.findOldest(Mockito.any(Pageable.class))).thenReturn(first);
+        doThrow(new IOException("No space left on device")).when(taskEventSink).publish(first);
+
+        taskOutboxRelay.relay();
+
+        verify(taskEventRepository, never()).deleteAllByIdInBatch(Mockito.any());
+        assertEquals(1, meterRegistry.get("tasks.outbox.failures").counter().count());
+    }
+
+    private TaskEvent event(Long id, TaskEventTypeEnum type) {
+        return new TaskEvent(id, TASK_ID, type, "Test", "test", LocalDate.now(), LocalDate.now().plusDays(1),
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, 1l, 0l, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.silviacristinaa.tasks.outbox;
+
+import com.github.silviacristinaa.tasks.entities.TaskEvent;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class PartitionedQueueTaskEventSinkTest {
+
+    private static final int PARTITIONS = 2;
+    private static final long TIMEOUT_MS = 5000;
+
+    private PartitionedQueueTaskEventSink sink;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sink = new PartitionedQueueTaskEventSink(applicationEventPublisher, PARTITIONS, 10, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sink.stopConsumers();
+    }
+
+    @Test
+    void whenConsumersRunPublishEachTasksEventsInOrder() throws InterruptedException {
+        TaskEvent created = event(1l, 1l, TaskEventTypeEnum.CREATED);
+        TaskEvent other = event(2l, 2l, TaskEventTypeEnum.CREATED);
+        TaskEvent updated = event(3l, 1l, TaskEventTypeEnum.UPDATED);
+        sink.publish(List.of(created, other, updated));
+
+        sink.startConsumers();
+
+        verify(applicationEventPublisher, timeout(TIMEOUT_MS).times(3)).publishEvent(any(Object.class));
+        InOrder inOrder = inOrder(applicationEventPublisher);
+        inOrder.verify(applicationEventPublisher).publishEvent(created);
+        inOrder.verify(applicationEventPublisher).publishEvent(updated);
+    }
+
+    @Test
+    void whenListenerFailsKeepConsumingPartition() throws InterruptedException {
+        TaskEvent failing = event(1l, 1l, TaskEventTypeEnum.CREATED);
+        TaskEvent next = event(2l, 1l, TaskEventTypeEnum.UPDATED);
+        doThrow(new IllegalStateException("listener failed")).when(applicationEventPublisher).publishEvent(failing);
+        sink.publish(List.of(failing, next));
+
+        sink.startConsumers();
+
+        verify(applicationEventPublisher, timeout(TIMEOUT_MS)).publishEvent(next);
+    }
+
+    @Test
+    void whenPartitionIsFullThrowIllegalStateException() {
+        PartitionedQueueTaskEventSink full = new PartitionedQueueTaskEventSink(applicationEventPublisher, 1, 1,
+                Duration.ofMillis(10));
+
+        assertThrows(IllegalStateException.class, () -> full.publish(List.of(event(1l, 1l, TaskEventTypeEnum.CREATED),
+                event(2l, 1l, TaskEventTypeEnum.UPDATED))));
+    }
+
+    private TaskEvent event(Long id, Long taskId, TaskEventTypeEnum type) {
+        return new TaskEvent(id, taskId, type, "Test", "test", LocalDate.now(), LocalDate.now().plusDays(1),
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, 1l, 0l, LocalDateTime.now());
+    }
+}
@@ -1,21 +1,39 @@
 package com.github.silviacristinaa.tasks.services.impl;
 
-import com.github.silviacristinaa.tasks.clients.EmployeesClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.tasks.caches.EmployeeTasksCache;
+import com.github.silviacristinaa.tasks.caches.TaskEntityCache;
+import com.github.silviacristinaa.tasks.clients.EmployeesCache;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskRequestDto;
+import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusBatchRequestDto;
 import com.github.silviacristinaa.tasks.dtos.requests.TaskStatusRequestDto;
 import com.github.silviacristinaa.tasks.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskBatchResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskCursorResponseDto;
 import com.github.silviacristinaa.tasks.dtos.responses.TaskResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatusBatchResponseDto;
 import com.github.silviacristinaa.tasks.entities.Task;
+import com.github.silviacristinaa.tasks.enums.BatchItemStatusEnum;
 import com.github.silviacristinaa.tasks.enums.DepartmentEnum;
+import com.github.silviacristinaa.tasks.enums.ExportFormatEnum;
 import com.github.silviacristinaa.tasks.enums.PriorityEnum;
 import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.enums.TaskEventTypeEnum;
 import com.github.silviacristinaa.tasks.exceptions.BadRequestException;
 import com.github.silviacristinaa.tasks.exceptions.InternalServerErrorException;
 import com.github.silviacristinaa.tasks.exceptions.NotFoundException;
+import com.github.silviacristinaa.tasks.exceptions.PreconditionFailedException;
+import com.github.silviacristinaa.tasks.exports.TaskExportWriter;
+import com.github.silviacristinaa.tasks.mappers.TaskMapper;
+import com.github.silviacristinaa.tasks.outbox.TaskOutbox;
 import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import com.github.silviacristinaa.tasks.stats.TaskStatistics;
+import com.github.silviacristinaa.tasks.stats.TaskStatsKey;
 import feign.FeignException;
 import feign.Request;
 import feign.RequestTemplate;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,16 +41,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -42,6 +73,7 @@ import static org.mockito.Mockito.*;
 public class TaskServiceImplTest {
 
     private static final long ID = 1l;
+    private static final long VERSION = 0l;
     private static final String TITLE = "Test";
     private static final String DESCRIPTION = "test";
     private static final int INDEX = 0;
@@ -51,10 +83,15 @@ public class TaskServiceImplTest {
             "the initial date and final date";
     private static final String MSG_ERROR_DATE_GRATER_THAN = "End date must be greater than start date";
     private static final String TASK_NOT_FOUND = "Task %s not found";
+    private static final String TASK_VERSION_MISMATCH = "Task %s is no longer at version %s";
     private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
     private static final String EMPLOYEE_IS_INACTIVE = "Employee %s is inactive";
     private static final String PROBLEM_EMPLOYEES_EXTERNAL_API = "There was a problem consuming the employees " +
             "external api";
+    private static final String MSG_ERROR_INVALID_TOKEN = "Invalid continuation token";
+    private static final String MSG_ERROR_BATCH_SIZE = "Batch must contain between 1 and %s tasks";
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final long INACTIVE_EMPLOYEE_ID = 2l;
 
     private LocalDate localDateStart;
     private LocalDate localDateEnd;
@@ -63,6 +100,7 @@ public class TaskServiceImplTest {
     private TaskResponseDto taskResponseDto;
     private EmployeeResponseDto employeeResponseDto;
     private Task task;
+    private TaskStatsKey taskStatsKey;
     private Request request;
 
     @InjectMocks
@@ -72,10 +110,31 @@ public class TaskServiceImplTest {
     private TaskRepository taskRepository;
 
     @Mock
-    private EmployeesClient employeesClient;
+    private EmployeesCache employeesCache;
+
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private TaskExportWriter taskExportWriter = new TaskExportWriter(new ObjectMapper());
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private EmployeeTasksCache employeeTasksCache;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskOutbox taskOutbox;
+
+    @Mock
+    private TaskEntityCache taskEntityCache;
 
     @BeforeEach
     void setUp() {
@@ -88,19 +147,22 @@ public class TaskServiceImplTest {
 
         employeeResponseDto = new EmployeeResponseDto(ID, "Test", "00000000000", DepartmentEnum.IT,
                 true);
+
         taskResponseDto = new TaskResponseDto(ID, TITLE, DESCRIPTION, localDateStart, localDateEnd, PriorityEnum.HIGH,
-                StatusEnum.IN_PROGRESS, ID);
+                StatusEnum.IN_PROGRESS, ID, VERSION);
 
         task = new Task(ID, TITLE, DESCRIPTION, localDateStart, localDateEnd, PriorityEnum.HIGH,
-                StatusEnum.IN_PROGRESS, ID);
+                StatusEnum.IN_PROGRESS, ID, VERSION);
+
+        taskStatsKey = TaskStatsKey.of(task);
 
         request = Request.create(Request.HttpMethod.GET, "url", new HashMap<>(), null, new RequestTemplate());
     }
 
     @Test
     void whenFindAllReturnTaskResponseDtoPage() {
-        when(taskRepository.findAll()).thenReturn(List.of(task));
-        when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(taskResponseDto);
+        when(taskRepository.findResponsePage(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), SIZE));
 
         Page<TaskResponseDto> response = taskServiceImpl.findAll(Pageable.ofSize(SIZE));
 
@@ -117,14 +179,28 @@ public class TaskServiceImplTest {
         assertEquals(ID, response.getContent().get(INDEX).getEmployeeId());
     }
 
+    @Test
+    void whenFindAllSliceReturnTaskResponseDtoSlice() {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), false));
+
+        Slice<TaskResponseDto> response = taskServiceImpl.findAllSlice(Pageable.ofSize(SIZE));
+
+        assertNotNull(response);
+        assertEquals(SIZE, response.getSize());
+        assertFalse(response.hasNext());
+        assertEquals(TaskResponseDto.class, response.getContent().get(INDEX).getClass());
+        assertEquals(TITLE, response.getContent().get(INDEX).getTitle());
+
+        verify(taskRepository, never()).findResponsePage(Mockito.any(), Mockito.any(Pageable.class));
+    }
+
     @Test
     void whenFindByFiltersReturnOneTaskResponseDto() throws BadRequestException {
-        when(taskRepository.findByKeywordAndStartDateBetweenAndEndDateBetweenAndPriorityAndStatusAndEmployeeId
-                (Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
-                        Mockito.any(), Mockito.any())).thenReturn(List.of(task));
-        when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(taskResponseDto);
+        when(taskRepository.findResponsePage(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), SIZE));
 
-        Page<TaskResponseDto> response = taskServiceImpl.findByFilters(null, null,
+        Page<TaskResponseDto> response = taskServiceImpl.findByFilters(TITLE, null,
                 null, null, null, null, null, null,
                 Pageable.ofSize(SIZE));
 
@@ -141,6 +217,83 @@ public class TaskServiceImplTest {
         assertEquals(ID, response.getContent().get(INDEX).getEmployeeId());
     }
 
+    @Test
+    void whenFindByFiltersWithOnlyEnumFiltersUseQueryCache() throws BadRequestException {
+        when(taskRepository.findCachedResponsePage(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), SIZE));
+
+        Page<TaskResponseDto> response = taskServiceImpl.findByFilters(null, null,
+                null, null, null, PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, ID,
+                Pageable.ofSize(SIZE));
+
+        assertEquals(SIZE, response.getContent().size());
+        verify(taskRepository, never()).findResponsePage(Mockito.any(), Mockito.any(Pageable.class));
+    }
+
+    @Test
+    void whenFindByFiltersSliceReturnOneTaskResponseDto() throws BadRequestException {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), false));
+
+        Slice<TaskResponseDto> response = taskServiceImpl.findByFiltersSlice(null, null,
+                null, null, null, null, StatusEnum.IN_PROGRESS, null,
+                Pageable.ofSize(SIZE));
+
+        assertNotNull(response);
+        assertEquals(SIZE, response.getSize());
+        assertEquals(TITLE, response.getContent().get(INDEX).getTitle());
+        assertEquals(StatusEnum.IN_PROGRESS, response.getContent().get(INDEX).getStatus());
+
+        verify(taskRepository, never()).findResponsePage(Mockito.any(), Mockito.any(Pageable.class));
+    }
+
+    @Test
+    void whenTryFindByFiltersSliceWithStartDateNullReturnBadRequestException() {
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> taskServiceImpl.findByFiltersSlice(
+                null, localDateStart, null, null, null, null,
+                null, null, Pageable.ofSize(SIZE)));
+
+        assertEquals(MSG_ERROR_FILLING_DATES, exception.getMessage());
+    }
+
+    @Test
+    void whenFindAllByCursorWithMoreRowsReturnNextToken() throws BadRequestException {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), true));
+
+        TaskCursorResponseDto response = taskServiceImpl.findAllByCursor(null, SIZE);
+
+        assertNotNull(response);
+        assertEquals(SIZE, response.getContent().size());
+        assertEquals(TITLE, response.getContent().get(INDEX).getTitle());
+        assertNotNull(response.getNextToken());
+    }
+
+    @Test
+    void whenFindByFiltersCursorWithLastPageReturnNoNextToken() throws BadRequestException {
+        when(taskRepository.findResponseSlice(Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskResponseDto), Pageable.ofSize(SIZE), false));
+
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((localDateEnd + ":" + ID).getBytes(StandardCharsets.UTF_8));
+        TaskCursorResponseDto response = taskServiceImpl.findByFiltersCursor(null, null, null,
+                null, null, null, StatusEnum.IN_PROGRESS, null, token, SIZE);
+
+        assertNotNull(response);
+        assertEquals(SIZE, response.getContent().size());
+        assertNull(response.getNextToken());
+    }
+
+    @Test
+    void whenTryFindAllByCursorWithInvalidTokenReturnBadRequestException() {
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> taskServiceImpl.findAllByCursor("invalid-token", SIZE));
+
+        assertEquals(MSG_ERROR_INVALID_TOKEN, exception.getMessage());
+    }
+
     @Test
     void whenTryFindByFiltersWithStartDateNullReturnBadRequestException() {
 
@@ -181,10 +334,37 @@ public class TaskServiceImplTest {
         assertEquals(MSG_ERROR_DATE_GRATER_THAN, exception.getMessage());
     }
 
+    @Test
+    void whenExportByFiltersAsCsvWriteOneLinePerTask() throws BadRequestException, IOException {
+        when(taskRepository.streamResponses(Mockito.any(), Mockito.any(), Mockito.anyInt()))
+                .thenReturn(Stream.of(taskResponseDto));
+
+        StreamingResponseBody body = taskServiceImpl.exportByFilters(null, null, null,
+                null, null, null, StatusEnum.IN_PROGRESS, null, ExportFormatEnum.CSV);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,title,description,startDate,endDate,priority,status,employeeId", lines[0]);
+        assertEquals(String.format("%s,%s,%s,%s,%s,%s,%s,%s", ID, TITLE, DESCRIPTION, localDateStart, localDateEnd,
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, ID), lines[1]);
+    }
+
+    @Test
+    void whenTryExportByFiltersWithEndDateNullReturnBadRequestException() {
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> taskServiceImpl.exportByFilters(
+                null, null, null, localDateStart, null, null,
+                null, null, ExportFormatEnum.NDJSON));
+
+        assertEquals(MSG_ERROR_FILLING_DATES, exception.getMessage());
+        verify(taskRepository, never()).streamResponses(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
     @Test
     void whenFindByIdReturnOneTaskResponseDto() throws NotFoundException {
         when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
-        when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(taskResponseDto);
 
         TaskResponseDto response = taskServiceImpl.findOneTaskById(ID);
 
@@ -198,6 +378,7 @@ public class TaskServiceImplTest {
         assertEquals(PriorityEnum.HIGH, response.getPriority());
         assertEquals(StatusEnum.IN_PROGRESS, response.getStatus());
         assertEquals(ID, response.getEmployeeId());
+        assertEquals(VERSION, response.getVersion());
     }
 
     @Test
@@ -209,10 +390,66 @@ public class TaskServiceImplTest {
         assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
     }
 
+    @Test
+    void whenFindByEmployeeFilterAndPageCachedTasks() {
+        TaskResponseDto completed = new TaskResponseDto(ID + 1, TITLE, DESCRIPTION, localDateStart, localDateEnd,
+                PriorityEnum.LOW, StatusEnum.COMPLETED, ID, VERSION);
+        when(employeeTasksCache.findByEmployeeId(ID)).thenReturn(Optional.of(List.of(taskResponseDto, completed,
+                taskResponseDto)));
+
+        Page<TaskResponseDto> response = taskServiceImpl.findByEmployee(ID, StatusEnum.IN_PROGRESS,
+                PageRequest.of(1, 1));
+
+        assertEquals(2, response.getTotalElements());
+        assertEquals(1, response.getContent().size());
+        assertEquals(StatusEnum.IN_PROGRESS, response.getContent().get(0).getStatus());
+        verify(taskRepository, never()).findResponsePage(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void whenFindByEmployeeWithPageBeyondEndReturnEmptyContent() {
+        when(employeeTasksCache.findByEmployeeId(ID)).thenReturn(Optional.of(List.of(taskResponseDto)));
+
+        Page<TaskResponseDto> response = taskServiceImpl.findByEmployee(ID, null, PageRequest.of(5, 10));
+
+        assertEquals(1, response.getTotalElements());
+        assertTrue(response.getContent().isEmpty());
+    }
+
+    @Test
+    void whenEmployeeHasTooManyTasksToCacheFindPageInDatabase() {
+        Page<TaskResponseDto> page = new PageImpl<>(List.of(taskResponseDto), PageRequest.of(0, 1), 5000);
+        when(employeeTasksCache.findByEmployeeId(ID)).thenReturn(Optional.empty());
+        when(taskRepository.findResponsePage(Mockito.any(), Mockito.any())).thenReturn(page);
+
+        Page<TaskResponseDto> response = taskServiceImpl.findByEmployee(ID, StatusEnum.IN_PROGRESS,
+                PageRequest.of(0, 1));
+
+        assertSame(page, response);
+        verify(taskRepository, times(1)).findResponsePage(Mockito.any(),
+                eq(PageRequest.of(0, 1, EmployeeTasksCache.SORT)));
+    }
+
+    @Test
+    void whenFindVersionByIdReturnVersion() throws NotFoundException {
+        when(taskRepository.findVersionById(anyLong())).thenReturn(Optional.of(VERSION));
+
+        assertEquals(VERSION, taskServiceImpl.findVersionById(ID));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void whenTryFindVersionByIdReturnNotFoundException() {
+        when(taskRepository.findVersionById(anyLong())).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> taskServiceImpl.findVersionById(ID));
+
+        assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
+    }
+
     @Test
     void whenCreateReturnSuccess() throws BadRequestException, NotFoundException, InternalServerErrorException {
-        when(employeesClient.findById(Mockito.any())).thenReturn(ResponseEntity.ok(employeeResponseDto));
-        when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(task);
+        when(employeesCache.findById(Mockito.any())).thenReturn(Optional.of(employeeResponseDto));
         when(taskRepository.save(Mockito.any())).thenReturn(task);
 
         Task response = taskServiceImpl.create(taskRequestDto);
@@ -229,6 +466,87 @@ public class TaskServiceImplTest {
         assertEquals(ID, response.getEmployeeId());
 
         verify(taskRepository, times(1)).save(Mockito.any());
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.CREATED, List.of(ID));
+        verify(taskStatistics, times(1)).add(Mockito.any());
+    }
+
+    @Test
+    void whenCreateBatchReturnStatusPerItem() throws BadRequestException {
+        TaskRequestDto invalidDates = new TaskRequestDto(TITLE, DESCRIPTION, localDateEnd, localDateStart,
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, ID);
+        TaskRequestDto inactiveEmployee = new TaskRequestDto(TITLE, DESCRIPTION, localDateStart, localDateEnd,
+                PriorityEnum.HIGH, StatusEnum.IN_PROGRESS, INACTIVE_EMPLOYEE_ID);
+        TaskRequestDto sameEmployee = new TaskRequestDto(TITLE, DESCRIPTION, localDateStart, localDateEnd,
+                PriorityEnum.LOW, StatusEnum.IN_PROGRESS, ID);
+
+        when(employeesCache.findAllById(Set.of(ID, INACTIVE_EMPLOYEE_ID))).thenReturn(Map.of(
+                ID, Optional.of(employeeResponseDto),
+                INACTIVE_EMPLOYEE_ID, Optional.of(new EmployeeResponseDto(INACTIVE_EMPLOYEE_ID, "Test",
+                        "00000000000", DepartmentEnum.IT, false))));
+        when(taskRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = ID;
+            for (Task saved : tasks) {
+                saved.setId(id++);
+            }
+            return tasks;
+        });
+
+        TaskBatchResponseDto response = taskServiceImpl.createBatch(
+                List.of(taskRequestDto, invalidDates, inactiveEmployee, sameEmployee));
+
+        assertNotNull(response);
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getFailed());
+
+        assertEquals(BatchItemStatusEnum.CREATED, response.getItems().get(0).getStatus());
+        assertEquals(ID, response.getItems().get(0).getId());
+        assertEquals(BatchItemStatusEnum.FAILED, response.getItems().get(1).getStatus());
+        assertEquals(List.of(MSG_ERROR_DATE_GRATER_THAN), response.getItems().get(1).getErrors());
+        assertEquals(BatchItemStatusEnum.FAILED, response.getItems().get(2).getStatus());
+        assertEquals(List.of(String.format(EMPLOYEE_IS_INACTIVE, INACTIVE_EMPLOYEE_ID)),
+                response.getItems().get(2).getErrors());
+        assertEquals(BatchItemStatusEnum.CREATED, response.getItems().get(3).getStatus());
+        assertEquals(ID + 1, response.getItems().get(3).getId());
+
+        verify(employeesCache, times(1)).findAllById(Set.of(ID, INACTIVE_EMPLOYEE_ID));
+        verify(employeesCache, never()).findById(Mockito.anyLong());
+        verify(taskRepository, times(1)).saveAll(Mockito.anyList());
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.CREATED, List.of(ID, ID + 1));
+    }
+
+    @Test
+    void whenEmployeesApiFailsFailBatchItemsWithoutOpeningTransaction() throws BadRequestException {
+        when(employeesCache.findAllById(Set.of(ID))).thenReturn(Map.of());
+
+        TaskBatchResponseDto response = taskServiceImpl.createBatch(List.of(taskRequestDto));
+
+        assertEquals(0, response.getCreated());
+        assertEquals(List.of(PROBLEM_EMPLOYEES_EXTERNAL_API), response.getItems().get(0).getErrors());
+        verify(transactionManager, never()).getTransaction(Mockito.any());
+        verify(taskRepository, never()).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void whenCreateBatchWithNullItemFailOnlyThatItem() throws BadRequestException {
+        when(employeesCache.findAllById(Set.of(ID))).thenReturn(Map.of(ID, Optional.of(employeeResponseDto)));
+        when(taskRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskBatchResponseDto response = taskServiceImpl.createBatch(Arrays.asList(null, taskRequestDto));
+
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals(BatchItemStatusEnum.FAILED, response.getItems().get(0).getStatus());
+        assertEquals(List.of("task must not be null"), response.getItems().get(0).getErrors());
+        assertEquals(BatchItemStatusEnum.CREATED, response.getItems().get(1).getStatus());
+    }
+
+    @Test
+    void whenTryCreateBatchWithoutTasksReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> taskServiceImpl.createBatch(List.of()));
+
+        assertEquals(String.format(MSG_ERROR_BATCH_SIZE, MAX_BATCH_SIZE), exception.getMessage());
     }
 
     @Test
@@ -252,8 +570,7 @@ public class TaskServiceImplTest {
 
     @Test
     void whenTryCreateWithIncorrectEmployeeIdReturnNotFoundException() {
-        when(employeesClient.findById(Mockito.anyLong())).thenThrow(new FeignException.NotFound(
-                "message", request, null, null));
+        when(employeesCache.findById(Mockito.anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> taskServiceImpl.create(taskRequestDto));
@@ -263,7 +580,7 @@ public class TaskServiceImplTest {
 
     @Test
     void whenTryCreateReturnInternalServerErrorException() {
-        when(employeesClient.findById(Mockito.anyLong())).thenThrow(new FeignException.InternalServerError(
+        when(employeesCache.findById(Mockito.anyLong())).thenThrow(new FeignException.InternalServerError(
                 "message", request, null, null));
 
         InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
@@ -275,7 +592,7 @@ public class TaskServiceImplTest {
     @Test
     void whenTryCreateWithInactiveEmployeeReturnBadRequestException() {
         employeeResponseDto.setEnabled(false);
-        when(employeesClient.findById(Mockito.anyLong())).thenReturn(ResponseEntity.ok(employeeResponseDto));
+        when(employeesCache.findById(Mockito.anyLong())).thenReturn(Optional.of(employeeResponseDto));
 
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> taskServiceImpl.create(taskRequestDto));
@@ -284,52 +601,126 @@ public class TaskServiceImplTest {
     }
 
     @Test
-    void whenUpdateTaskStatusReturnSuccess() throws NotFoundException {
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
-
-        taskServiceImpl.updateTaskStatus(ID, taskStatusRequestDto);
-
-        verify(taskRepository, times(1)).save(Mockito.any());
+    void whenUpdateTaskStatusReturnSuccess() throws NotFoundException, PreconditionFailedException {
+        when(taskRepository.findStatsKeyById(ID)).thenReturn(Optional.of(taskStatsKey));
+        when(taskRepository.updateStatusById(ID, StatusEnum.COMPLETED, null)).thenReturn(1);
+
+        taskServiceImpl.updateTaskStatus(ID, taskStatusRequestDto, null);
+
+        verify(taskRepository, times(1)).updateStatusById(ID, StatusEnum.COMPLETED, null);
+        verify(taskStatistics, times(1)).replace(Mockito.eq(taskStatsKey),
+                Mockito.argThat(key -> key.getStatus() == StatusEnum.COMPLETED));
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(Mockito.any());
+        verify(taskEntityCache, times(1)).evictAfterCommit(ID);
+        verify(employeeTasksCache, times(1)).evictAfterCommit(List.of(ID));
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.STATUS_UPDATED, List.of(ID));
     }
 
     @Test
     void whenTryUpdateTaskStatusReturnNotFoundException() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findStatsKeyById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> taskServiceImpl.updateTaskStatus(ID, taskStatusRequestDto));
+                () -> taskServiceImpl.updateTaskStatus(ID, taskStatusRequestDto, null));
 
         assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
+        verify(taskRepository, never()).updateStatusById(anyLong(), Mockito.any(), Mockito.any());
     }
 
     @Test
-    void whenUpdateReturnSuccess() throws NotFoundException, BadRequestException, InternalServerErrorException {
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
-        when(employeesClient.findById(Mockito.any())).thenReturn(ResponseEntity.ok(employeeResponseDto));
-        when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(task);
+    void whenTryUpdateTaskStatusWithStaleVersionReturnPreconditionFailedException() {
+        when(taskRepository.findStatsKeyById(ID)).thenReturn(Optional.of(taskStatsKey));
+        when(taskRepository.updateStatusById(ID, StatusEnum.COMPLETED, VERSION)).thenReturn(0);
+        when(taskRepository.existsById(ID)).thenReturn(true);
 
-        taskServiceImpl.update(ID, taskRequestDto);
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> taskServiceImpl.updateTaskStatus(ID, taskStatusRequestDto, VERSION));
 
-        verify(taskRepository, times(1)).save(Mockito.any());
+        assertEquals(String.format(TASK_VERSION_MISMATCH, ID, VERSION), exception.getMessage());
+        verify(taskStatistics, never()).replace(Mockito.any(), Mockito.any());
+        verifyNoInteractions(taskOutbox, taskEntityCache);
+    }
+
+    @Test
+    void whenUpdateTaskStatusesReturnUpdatedCount() {
+        when(taskRepository.updateStatusByIdIn(Mockito.anyCollection(), Mockito.eq(StatusEnum.COMPLETED)))
+                .thenReturn(1);
+
+        TaskStatusBatchResponseDto response = taskServiceImpl.updateTaskStatuses(
+                new TaskStatusBatchRequestDto(List.of(ID, ID, ID + 1), StatusEnum.COMPLETED));
+
+        assertEquals(2, response.getRequested());
+        assertEquals(1, response.getUpdated());
+        verify(taskRepository, times(1)).updateStatusByIdIn(Mockito.anyCollection(), Mockito.eq(StatusEnum.COMPLETED));
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.STATUS_UPDATED, Set.of(ID, ID + 1));
+    }
+
+    @Test
+    void whenUpdateReturnSuccess() throws NotFoundException, BadRequestException, InternalServerErrorException,
+            PreconditionFailedException {
+        when(employeesCache.findById(Mockito.any())).thenReturn(Optional.of(employeeResponseDto));
+        when(taskRepository.findStatsKeyById(ID)).thenReturn(Optional.of(taskStatsKey));
+        when(taskRepository.updateById(Mockito.any(), Mockito.eq(VERSION))).thenReturn(1);
+
+        taskServiceImpl.update(ID, taskRequestDto, VERSION);
+
+        verify(taskRepository, times(1)).updateById(Mockito.argThat(updated -> updated.getId().equals(ID)),
+                Mockito.eq(VERSION));
+        verify(taskStatistics, times(1)).replace(Mockito.eq(taskStatsKey), Mockito.any());
+        verify(taskEntityCache, times(1)).evictAfterCommit(ID);
+        verify(employeeTasksCache, times(1)).evictAfterCommit(List.of(ID, ID));
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(Mockito.any());
+        verify(taskOutbox, times(1)).append(TaskEventTypeEnum.UPDATED, List.of(ID));
     }
 
     @Test
     void whenTryUpdateReturnNotFoundException() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(employeesCache.findById(Mockito.any())).thenReturn(Optional.of(employeeResponseDto));
+        when(taskRepository.findStatsKeyById(anyLong())).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> taskServiceImpl.update(ID, taskRequestDto, VERSION));
+
+        assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
+        verify(taskRepository, never()).updateById(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void whenTryUpdateDeletedTaskReturnNotFoundException() {
+        when(employeesCache.findById(Mockito.any())).thenReturn(Optional.of(employeeResponseDto));
+        when(taskRepository.findStatsKeyById(ID)).thenReturn(Optional.of(taskStatsKey));
+        when(taskRepository.updateById(Mockito.any(), Mockito.eq(VERSION))).thenReturn(0);
+        when(taskRepository.existsById(ID)).thenReturn(false);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, VERSION));
 
         assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
+        verify(taskStatistics, never()).replace(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void whenTryUpdateWithStaleVersionReturnPreconditionFailedException() {
+        when(employeesCache.findById(Mockito.any())).thenReturn(Optional.of(employeeResponseDto));
+        when(taskRepository.findStatsKeyById(ID)).thenReturn(Optional.of(taskStatsKey));
+        when(taskRepository.updateById(Mockito.any(), Mockito.eq(VERSION))).thenReturn(0);
+        when(taskRepository.existsById(ID)).thenReturn(true);
+
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> taskServiceImpl.update(ID, taskRequestDto, VERSION));
+
+        assertEquals(String.format(TASK_VERSION_MISMATCH, ID, VERSION), exception.getMessage());
+        verifyNoInteractions(taskEntityCache);
     }
 
     @Test
     void whenTryUpdateWithIncorrectFillingDatesReturnBadRequestException() {
         taskRequestDto.setEndDate(null);
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
 
         BadRequestException exception = assertThrows(BadRequestException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, null));
 
         assertEquals(MSG_ERROR_FILLING_DATES, exception.getMessage());
     }
@@ -338,34 +729,30 @@ public class TaskServiceImplTest {
     void whenTryUpdateWithDateGreaterReturnBadRequestException() {
         taskRequestDto.setStartDate(localDateEnd);
         taskRequestDto.setEndDate(localDateStart);
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
 
         BadRequestException exception = assertThrows(BadRequestException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, null));
 
         assertEquals(MSG_ERROR_DATE_GRATER_THAN, exception.getMessage());
     }
 
     @Test
     void whenTryUpdateWithIncorrectEmployeeIdReturnNotFoundException() {
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
-        when(employeesClient.findById(Mockito.anyLong())).thenThrow(new FeignException.NotFound(
-                "message", request, null, null));
+        when(employeesCache.findById(Mockito.anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, null));
 
         assertEquals(String.format(EMPLOYEE_NOT_FOUND, ID), exception.getMessage());
     }
 
     @Test
     void whenTryUpdateReturnInternalServerErrorException() {
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
-        when(employeesClient.findById(Mockito.anyLong())).thenThrow(new FeignException.InternalServerError(
+        when(employeesCache.findById(Mockito.anyLong())).thenThrow(new FeignException.InternalServerError(
                 "message", request, null, null));
 
         InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, null));
 
         assertEquals(PROBLEM_EMPLOYEES_EXTERNAL_API, exception.getMessage());
     }
@@ -373,30 +760,46 @@ public class TaskServiceImplTest {
     @Test
     void whenTryUpdateWithInactiveEmployeeReturnBadRequestException() {
         employeeResponseDto.setEnabled(false);
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
-        when(employeesClient.findById(Mockito.anyLong())).thenReturn(ResponseEntity.ok(employeeResponseDto));
+        when(employeesCache.findById(Mockito.anyLong())).thenReturn(Optional.of(employeeResponseDto));
 
         BadRequestException exception = assertThrows(BadRequestException.class,
-                () -> taskServiceImpl.update(ID, taskRequestDto));
+                () -> taskServiceImpl.update(ID, taskRequestDto, null));
 
         assertEquals(String.format(EMPLOYEE_IS_INACTIVE, ID), exception.getMessage());
     }
 
     @Test
     void whenDeleteReturnSuccess() throws NotFoundException {
-        when(taskRepository.findById(Mockito.any())).thenReturn(Optional.of(task));
+        when(taskRepository.findResponseById(ID)).thenReturn(Optional.of(taskResponseDto));
+        when(taskRepository.deleteTaskById(anyLong())).thenReturn(1);
 
         taskServiceImpl.delete(ID);
 
-        verify(taskRepository, times(1)).deleteById(anyLong());
+        verify(taskRepository, times(1)).deleteTaskById(ID);
+        verify(taskOutbox, times(1)).appendDeleted(taskResponseDto);
+        verify(taskStatistics, times(1)).remove(Mockito.argThat(key -> key.getStatus() == StatusEnum.IN_PROGRESS
+                && key.getEmployeeId().equals(ID)));
+        verify(taskEntityCache, times(1)).evictAfterCommit(ID);
+        verify(employeeTasksCache, times(1)).evictAfterCommit(List.of(ID));
+        verify(taskRepository, never()).findById(anyLong());
     }
 
     @Test
     void whenTryDeleteReturnNotFoundException() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> taskServiceImpl.delete(ID));
 
         assertEquals(String.format(TASK_NOT_FOUND, ID), exception.getMessage());
+        verify(taskRepository, never()).deleteTaskById(anyLong());
+    }
+
+    @Test
+    void whenFindStatsReturnSnapshot() {
+        TaskStatsResponseDto stats = new TaskStatsResponseDto();
+        when(taskStatistics.snapshot(true)).thenReturn(stats);
+
+        assertSame(stats, taskServiceImpl.findStats(true));
+        verify(taskRepository, never()).count();
     }
-}
\ No newline at end of file
+}
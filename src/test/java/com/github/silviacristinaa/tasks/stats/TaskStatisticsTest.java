@@ -0,0 +1,141 @@
+package com.github.silviacristinaa.tasks.stats;
+
+import com.github.silviacristinaa.tasks.dtos.responses.TaskStatsResponseDto;
+import com.github.silviacristinaa.tasks.enums.PriorityEnum;
+import com.github.silviacristinaa.tasks.enums.StatusEnum;
+import com.github.silviacristinaa.tasks.repositories.TaskCount;
+import com.github.silviacristinaa.tasks.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class TaskStatisticsTest {
+
+    private static final long EMPLOYEE_ID = 1l;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 10);
+    private static final LocalDate END_DATE = LocalDate.of(2023, 2, 10);
+
+    private TaskStatsKey taskStatsKey;
+
+    @InjectMocks
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        taskStatsKey = new TaskStatsKey(StatusEnum.IN_PROGRESS, PriorityEnum.HIGH, EMPLOYEE_ID, START_DATE, END_DATE);
+    }
+
+    @Test
+    void whenReconcileLoadCountsFromGroupByQueries() {
+        when(taskRepository.count()).thenReturn(3L);
+        when(taskRepository.countByStatus()).thenReturn(List.of(count(StatusEnum.IN_PROGRESS, 2),
+                count(null, 1)));
+        when(taskRepository.countByPriority()).thenReturn(List.of(count(PriorityEnum.HIGH, 3)));
+        when(taskRepository.countByEmployeeId()).thenReturn(List.of(count(EMPLOYEE_ID, 3)));
+        when(taskRepository.countByStartMonth()).thenReturn(List.of(count(202301, 3)));
+        when(taskRepository.countByEndMonth()).thenReturn(List.of(count(202302, 3)));
+
+        taskStatistics.reconcile();
+        TaskStatsResponseDto response = taskStatistics.snapshot(true);
+
+        assertEquals(3, response.getTotal());
+        assertEquals(2, response.getByStatus().get(StatusEnum.IN_PROGRESS));
+        assertEquals(1, response.getByStatus().size());
+        assertEquals(3, response.getByPriority().get(PriorityEnum.HIGH));
+        assertEquals(3, response.getByEmployee().get(EMPLOYEE_ID));
+        assertEquals(3, response.getByStartMonth().get(YearMonth.of(2023, 1)));
+        assertEquals(3, response.getByEndMonth().get(YearMonth.of(2023, 2)));
+        assertNotNull(response.getReconciledAt());
+        verify(transactionManager, times(1)).getTransaction(argThat(definition -> !definition.isReadOnly()
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    }
+
+    @Test
+    void whenTaskAddedDuringReconcileKeepItInRebuiltCounts() {
+        when(taskRepository.count()).thenReturn(1L);
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            taskStatistics.add(taskStatsKey);
+            return List.of(count(StatusEnum.IN_PROGRESS, 1));
+        });
+
+        taskStatistics.reconcile();
+        TaskStatsResponseDto response = taskStatistics.snapshot(false);
+
+        assertEquals(2, response.getTotal());
+        assertEquals(2, response.getByStatus().get(StatusEnum.IN_PROGRESS));
+        assertEquals(1, response.getByEmployee().get(EMPLOYEE_ID));
+    }
+
+    @Test
+    void whenReplaceMoveTaskBetweenBuckets() {
+        taskStatistics.add(taskStatsKey);
+        taskStatistics.replace(taskStatsKey, taskStatsKey.withStatus(StatusEnum.COMPLETED));
+
+        TaskStatsResponseDto response = taskStatistics.snapshot(false);
+
+        assertEquals(1, response.getTotal());
+        assertNull(response.getByStatus().get(StatusEnum.IN_PROGRESS));
+        assertEquals(1, response.getByStatus().get(StatusEnum.COMPLETED));
+        assertNull(response.getByStartMonth());
+        assertNull(response.getByEndMonth());
+    }
+
+    @Test
+    void whenMoveStatusOnlyChangeStatusCounts() {
+        taskStatistics.add(taskStatsKey);
+        taskStatistics.add(taskStatsKey);
+        taskStatistics.moveStatus(StatusEnum.IN_PROGRESS, StatusEnum.LATE, 2);
+
+        TaskStatsResponseDto response = taskStatistics.snapshot(true);
+
+        assertEquals(2, response.getTotal());
+        assertEquals(2, response.getByStatus().get(StatusEnum.LATE));
+        assertEquals(2, response.getByPriority().get(PriorityEnum.HIGH));
+        assertEquals(2, response.getByEndMonth().get(YearMonth.of(2023, 2)));
+    }
+
+    @Test
+    void whenRemoveDropEmptyBuckets() {
+        taskStatistics.add(taskStatsKey);
+        taskStatistics.remove(taskStatsKey);
+
+        TaskStatsResponseDto response = taskStatistics.snapshot(true);
+
+        assertEquals(0, response.getTotal());
+        assertTrue(response.getByEmployee().isEmpty());
+        assertTrue(response.getByStartMonth().isEmpty());
+    }
+
+    private static <K> TaskCount<K> count(K bucket, long total) {
+        return new TaskCount<>() {
+            @Override
+            public K getBucket() {
+                return bucket;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.silviacristinaa.tasks.configs;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs Tomcat requests and the employees circuit breaker's calls on virtual threads. Only compiled by the
+ * {@code virtual-threads} Maven profile (Java 21) and only active under the Spring profile of the same name.
+ * <p>
+ * Blocking is cheap here but connections are not: the Hikari pool keeps its fixed size and fails fast
+ * (application-virtual-threads.yml), the employees bulkhead still caps concurrent Feign calls, and exports keep
+ * their bounded pool (ExportConfig).
+ * <p>
+ * The profile builds with Connector/J 8.2, whose I/O paths use locks instead of {@code synchronized}, so a query
+ * waiting on MySQL unmounts instead of pinning its carrier. Check with {@code -Djdk.tracePinnedThreads=short}
+ * (set by {@code spring-boot:run} in the profile).
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+	private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(virtualThreads);
+	}
+
+	@Bean
+	public Customizer<Resilience4JCircuitBreakerFactory> virtualThreadsCircuitBreakerCustomizer() {
+		return factory -> factory.configureExecutorService(virtualThreads);
+	}
+}
@@ -0,0 +1,98 @@
+package com.github.silviacristinaa.tasks.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Model of the thread scheduling only: requests per second for a burst of {@link #CONCURRENCY} concurrent
+ * create-like requests, on Tomcat's default 200 platform threads versus one virtual thread per request. Each
+ * request sleeps {@code employeesLatencyMs} for the employees API, then holds one of {@code poolSize} permits for
+ * {@code jdbcLatencyMs}. The semaphore stands in for Hikari, so the virtual-thread run shows where the connection
+ * pool becomes the limit. Sleeps never pin a carrier, so this is an upper bound, not a measurement of the
+ * application: for that, run the load test in both modes,
+ * {@code mvn -Pvirtual-threads,loadtest test-compile exec:java -Dloadtest.compare=spring.profiles.active
+ * -Dloadtest.compare.values=h2,virtual-threads}, and check MySQL runs with {@code -Djdk.tracePinnedThreads=short}.
+ * <p>
+ * Run with both profiles: {@code mvn -Pbenchmarks,virtual-threads test-compile exec:exec -Djmh.includes=ThreadModel}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+
+	private static final int CONCURRENCY = 2000;
+	private static final int TOMCAT_MAX_THREADS = 200;
+
+	@Param({"platform", "virtual"})
+	public String threads;
+
+	@Param({"20"})
+	public int employeesLatencyMs;
+
+	@Param({"2"})
+	public int jdbcLatencyMs;
+
+	@Param({"20"})
+	public int poolSize;
+
+	private ExecutorService executor;
+	private Semaphore connections;
+
+	@Setup
+	public void setUp() {
+		executor = "virtual".equals(threads) ? Executors.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+		connections = new Semaphore(poolSize, true);
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CONCURRENCY)
+	public void burst() throws InterruptedException, ExecutionException {
+		List<Future<?>> requests = new ArrayList<>(CONCURRENCY);
+		for (int i = 0; i < CONCURRENCY; i++) {
+			requests.add(executor.submit(this::request));
+		}
+		for (Future<?> request : requests) {
+			request.get();
+		}
+	}
+
+	private Void request() throws InterruptedException {
+		Thread.sleep(employeesLatencyMs);
+		connections.acquire();
+		try {
+			Thread.sleep(jdbcLatencyMs);
+		} finally {
+			connections.release();
+		}
+		return null;
+	}
+}